@@ -0,0 +1,95 @@
+package com.example.deliveryapp.benchmark;
+
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.entity.OptionItem;
+import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.entity.OrderMenu;
+import com.example.deliveryapp.domain.order.entity.OrderMenuOption;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+
+import java.lang.reflect.Field;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 엔티티 생성 (DB 없이 식별자는 리플렉션으로 지정)
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Store store() {
+        User owner = new User("owner@em.com", "pw", "owner", UserRole.OWNER);
+        Store store = new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59), 1000L, StoreStatus.OPEN, owner);
+        setId(store, 1L);
+        return store;
+    }
+
+    public static Menu menu(Store store, long menuId) {
+        Menu menu = new Menu("menu" + menuId, 10000L, "description", store);
+        setId(menu, menuId);
+        return menu;
+    }
+
+    // categoryCount 개의 카테고리마다 itemCount 개의 옵션 항목
+    public static List<OptionCategory> optionCategories(Menu menu, int categoryCount, int itemCount) {
+        List<OptionCategory> optionCategories = new ArrayList<>();
+        long optionItemId = 1L;
+        for (int i = 0; i < categoryCount; i++) {
+            OptionCategory optionCategory = new OptionCategory("category" + i, false, true, null, menu);
+            setId(optionCategory, (long) i + 1);
+            for (int j = 0; j < itemCount; j++) {
+                OptionItem optionItem = new OptionItem("item" + j, 100L * j);
+                setId(optionItem, optionItemId++);
+                optionCategory.addOptionItem(optionItem);
+            }
+            optionCategories.add(optionCategory);
+        }
+        return optionCategories;
+    }
+
+    public static Order order(int orderMenuCount, int optionCountPerMenu) {
+        Store store = store();
+        User user = new User("user@em.com", "pw", "user", UserRole.USER);
+        Order order = new Order(user, store, OrderState.PENDING);
+        setId(order, 1L);
+
+        Menu menu = menu(store, 1L);
+        List<OptionItem> optionItems = optionCategories(menu, 1, optionCountPerMenu).get(0).getOptionItems();
+        for (int i = 0; i < orderMenuCount; i++) {
+            OrderMenu orderMenu = new OrderMenu(menu);
+            setId(orderMenu, (long) i + 1);
+            for (OptionItem optionItem : optionItems) {
+                orderMenu.addOrderMenuOption(new OrderMenuOption(optionItem));
+            }
+            order.addOrderMenu(orderMenu);
+        }
+        return order;
+    }
+
+    public static void setField(Object target, String fieldName, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(fieldName);
+    }
+
+    private static void setId(Object target, Long id) {
+        setField(target, "id", id);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.deliveryapp.config;
+
+import com.example.deliveryapp.benchmark.BenchmarkFixtures;
+import com.example.deliveryapp.domain.common.dto.AuthUser;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private AuthTokenCache uncachedAuthTokenCache;
+    private AuthTokenCache cachedAuthTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        BenchmarkFixtures.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes()));
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@em.com", "user", UserRole.USER));
+        uncachedAuthTokenCache = new AuthTokenCache(jwtUtil, new SimpleMeterRegistry(), false, 10000L);
+        cachedAuthTokenCache = new AuthTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 10000L);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    // JwtFilter 가 요청마다 수행하는 인증 (검증 + AuthUser 생성)
+    @Benchmark
+    public AuthUser authenticate() {
+        return uncachedAuthTokenCache.authenticate(token);
+    }
+
+    @Benchmark
+    public AuthUser authenticateCached() {
+        return cachedAuthTokenCache.authenticate(token);
+    }
+}
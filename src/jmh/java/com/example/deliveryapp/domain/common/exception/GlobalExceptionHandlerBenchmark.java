@@ -0,0 +1,60 @@
+package com.example.deliveryapp.domain.common.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.HashMap;
+
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private static final int FIELD_ERROR_COUNT = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GlobalExceptionHandler globalExceptionHandler;
+    private CustomException customException;
+    private MethodArgumentNotValidException methodArgumentNotValidException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        globalExceptionHandler = new GlobalExceptionHandler();
+        customException = new CustomException(ErrorCode.ORDER_NOT_FOUND);
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new HashMap<>(), "request");
+        for (int i = 0; i < FIELD_ERROR_COUNT; i++) {
+            bindingResult.addError(new FieldError("request", "field" + i, "must not be null"));
+        }
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("handle", Object.class), 0);
+        methodArgumentNotValidException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public byte[] handleCustomException() throws Exception {
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleCustomException(customException);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public byte[] handleMethodArgumentNotValid() throws Exception {
+        ResponseEntity<Object> response = globalExceptionHandler.handleMethodArgumentNotValid(
+                methodArgumentNotValidException, new HttpHeaders(), HttpStatus.BAD_REQUEST, null);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    // MethodArgumentNotValidException 생성용
+    @SuppressWarnings("unused")
+    private void handle(Object request) {
+    }
+}
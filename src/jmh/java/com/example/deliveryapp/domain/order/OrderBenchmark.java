@@ -0,0 +1,44 @@
+package com.example.deliveryapp.domain.order;
+
+import com.example.deliveryapp.benchmark.BenchmarkFixtures;
+import com.example.deliveryapp.domain.order.converter.OrderConverter;
+import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
+import com.example.deliveryapp.domain.order.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class OrderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int orderMenuCount;
+
+    @Param({"0", "5"})
+    private int optionCountPerMenu;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(orderMenuCount, optionCountPerMenu);
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+        return OrderConverter.toResponse(order);
+    }
+
+    @Benchmark
+    public long calculateTotalPrice() {
+        return order.calculateTotalPrice();
+    }
+
+    // 저장된 합계 (주문 메뉴/옵션을 순회하지 않음)
+    @Benchmark
+    public long getTotalPrice() {
+        return order.getTotalPrice();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.deliveryapp.domain.order.service;
+
+import com.example.deliveryapp.benchmark.BenchmarkFixtures;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog;
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.entity.OptionItem;
+import com.example.deliveryapp.domain.order.dto.request.CartAddRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartAddRequest.OptionRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class CartOptionValidationBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int categoryCount;
+
+    @Param({"10", "50"})
+    private int itemCount;
+
+    private CartAddRequest request;
+    private MenuOptionCatalog optionCatalog;
+
+    @Setup
+    public void setUp() {
+        Menu menu = BenchmarkFixtures.menu(BenchmarkFixtures.store(), 1L);
+        List<OptionCategory> optionCategories = BenchmarkFixtures.optionCategories(menu, categoryCount, itemCount);
+        optionCatalog = MenuOptionCatalog.of(menu.getId(), optionCategories);
+
+        // 카테고리마다 모든 옵션 항목 선택 (최악의 경우)
+        List<OptionRequest> options = optionCategories.stream()
+                .map(optionCategory -> new OptionRequest(
+                        optionCategory.getId(),
+                        optionCategory.getOptionItems().stream().map(OptionItem::getId).toList()
+                ))
+                .toList();
+        request = new CartAddRequest(menu.getId(), options);
+    }
+
+    @Benchmark
+    public CartAddRequest validateOptionRequest() {
+        CartService.validateOptionRequest(request.getOptions(), optionCatalog);
+        return request;
+    }
+}
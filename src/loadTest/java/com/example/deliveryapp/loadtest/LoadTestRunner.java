@@ -0,0 +1,128 @@
+package com.example.deliveryapp.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 실행 중인 서버에 동시 요청 N 개를 계속 유지하며 처리량과 지연 분포를 측정
+// 플랫폼 스레드/가상 스레드 모드를 각각 띄운 뒤 label 만 바꿔 실행하고 results.jsonl 에서 비교
+//   1) ./gradlew bootRun
+//      ./gradlew loadTest -PloadTest.token=<jwt> -PloadTest.label=platform
+//   2) ./gradlew bootRun -PruntimeJavaVersion=21 --args='--spring.profiles.active=virtual-threads'
+//      ./gradlew loadTest -PloadTest.token=<jwt> -PloadTest.label=virtual
+public class LoadTestRunner {
+
+    private static final int MAX_LATENCY_MILLIS = 60_000;
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadTest.baseUrl", "http://localhost:8080");
+        String path = System.getProperty("loadTest.path", "/stores/1/menus");
+        String token = System.getProperty("loadTest.token", "");
+        String label = System.getProperty("loadTest.label", "default");
+        int concurrency = Integer.getInteger("loadTest.concurrency", 2000);
+        int warmupSeconds = Integer.getInteger("loadTest.warmupSeconds", 10);
+        int durationSeconds = Integer.getInteger("loadTest.durationSeconds", 60);
+        String resultsFile = System.getProperty("loadTest.resultsFile", "build/reports/loadtest/results.jsonl");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(MAX_LATENCY_MILLIS))
+                .GET();
+        if (!token.isBlank()) {
+            requestBuilder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        System.out.printf("[load test] %s %s concurrency=%d warmup=%ds duration=%ds%n",
+                label, request.uri(), concurrency, warmupSeconds, durationSeconds);
+
+        run(client, request, concurrency, warmupSeconds);
+        Result result = run(client, request, concurrency, durationSeconds);
+
+        String line = result.toJson(label, path, concurrency, durationSeconds);
+        System.out.println(line);
+        Path output = Path.of(resultsFile);
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, line + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    // 동시 요청 수는 세마포어로 유지, 응답이 오는 즉시 다음 요청을 보냄
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, int seconds)
+            throws InterruptedException {
+        Result result = new Result();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        while (System.nanoTime() < deadline) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            long startedAt = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                        result.record(elapsedMillis, e == null && response.statusCode() < 400);
+                        inFlight.release();
+                    });
+        }
+        // 진행 중인 요청이 끝날 때까지 대기 (타임아웃이 상한)
+        inFlight.tryAcquire(concurrency, MAX_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+        result.finish();
+        return result;
+    }
+
+    private static class Result {
+        private final Instant startedAt = Instant.now();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicLongArray latencyHistogram = new AtomicLongArray(MAX_LATENCY_MILLIS + 1); // 1ms 단위
+        private Duration elapsed;
+
+        private void record(long elapsedMillis, boolean success) {
+            (success ? successes : failures).increment();
+            latencyHistogram.incrementAndGet((int) Math.min(elapsedMillis, MAX_LATENCY_MILLIS));
+        }
+
+        private void finish() {
+            elapsed = Duration.between(startedAt, Instant.now());
+        }
+
+        private long percentile(double percentile) {
+            long total = successes.sum() + failures.sum();
+            long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int millis = 0; millis < latencyHistogram.length(); millis++) {
+                seen += latencyHistogram.get(millis);
+                if (seen >= target && seen > 0) {
+                    return millis;
+                }
+            }
+            return MAX_LATENCY_MILLIS;
+        }
+
+        private String toJson(String label, String path, int concurrency, int durationSeconds) {
+            double throughput = successes.sum() / (elapsed.toMillis() / 1000.0);
+            return String.format(
+                    "{\"label\":\"%s\",\"path\":\"%s\",\"concurrency\":%d,\"durationSeconds\":%d,"
+                            + "\"successes\":%d,\"failures\":%d,\"throughputRps\":%.1f,"
+                            + "\"p50Ms\":%d,\"p95Ms\":%d,\"p99Ms\":%d}",
+                    label, path, concurrency, durationSeconds,
+                    successes.sum(), failures.sum(), throughput,
+                    percentile(0.50), percentile(0.95), percentile(0.99));
+        }
+    }
+}
@@ -2,45 +2,93 @@ package com.example.deliveryapp.client;
 
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
-import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Operations;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+// 업로드는 S3Client 로 직접 스트리밍 (S3Operations.upload 는 길이를 모르는 스트림을 메모리에 전부 버퍼링함)
+// multipartThreshold 이하는 크기를 알려준 PutObject 한 번, 초과하면 partSize 만큼씩만 버퍼링하는 multipart 업로드
+// 로컬 S3 대체 서버(MinIO, LocalStack 등)는 spring.cloud.aws.s3.endpoint, path-style-access-enabled 로 연결
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
+    public static final Duration SIGNED_URL_DURATION = Duration.ofMinutes(10);
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024; // 마지막 part 를 제외한 S3 multipart 최소 크기
+
     @Value("${s3.bucket}")
     private String bucket;
 
     private final S3Operations s3Operations;
+    private final S3Client s3Client;
+    private final long maxUploadSize;
+    private final long multipartThreshold;
+    private final int partSize;
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary uploadSize;
+    private final DistributionSummary uploadThroughput;
+    private final Counter tooLargeCounter;
+
+    public S3Service(
+            S3Operations s3Operations,
+            S3Client s3Client,
+            MeterRegistry meterRegistry,
+            @Value("${s3.upload.max-size-bytes:10485760}") long maxUploadSize,
+            @Value("${s3.upload.multipart-threshold-bytes:8388608}") long multipartThreshold,
+            @Value("${s3.upload.part-size-bytes:8388608}") int partSize
+    ) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("s3.upload.part-size-bytes must be at least " + MIN_PART_SIZE);
+        }
+        this.s3Operations = s3Operations;
+        this.s3Client = s3Client;
+        this.maxUploadSize = maxUploadSize;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+
+        this.meterRegistry = meterRegistry;
+        this.uploadSize = DistributionSummary.builder("s3.upload.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.uploadThroughput = DistributionSummary.builder("s3.upload.throughput")
+                .baseUnit("bytes_per_second")
+                .register(meterRegistry);
+        this.tooLargeCounter = meterRegistry.counter("s3.upload.rejected", "reason", "too-large");
+    }
 
     public String uploadImage(String folder, MultipartFile file) {
         validateImage(file);
 
         String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
-        String fullName = folder + "/" + fileName;
-        ObjectMetadata metadata = ObjectMetadata.builder()
-                .contentType(file.getContentType())
-                .build();
-
-        try (InputStream inputStream = file.getInputStream()) {
-            s3Operations.upload(bucket, fullName, inputStream, metadata);
-        } catch (IOException e) {
-            log.error("[파일 업로드 실패] ", e);
-            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
-        }
-
+        upload(folder + "/" + fileName, file);
         return fileName;
     }
 
@@ -51,14 +99,154 @@ public class S3Service {
 
     public String createSignedUrl(String folder, String fileName) {
         String fullName = folder + "/" + fileName;
-        return s3Operations.createSignedGetURL(bucket, fullName, Duration.ofMinutes(10)).toString();
+        return s3Operations.createSignedGetURL(bucket, fullName, SIGNED_URL_DURATION).toString();
     }
 
-    private static void validateImage(MultipartFile image) {
+    // 서버에서 만든 이미지(리사이즈 결과 등)를 정해진 이름으로 저장
+    public void uploadImage(String folder, String fileName, byte[] contents, String contentType) {
+        String key = folder + "/" + fileName;
+        long startedAt = System.nanoTime();
+        boolean success = false;
+
+        try {
+            s3Client.putObject(
+                    PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength((long) contents.length)
+                            .build(),
+                    RequestBody.fromBytes(contents)
+            );
+            success = true;
+        } catch (SdkException e) {
+            log.error("[파일 업로드 실패] key={}, size={}", key, contents.length, e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        } finally {
+            recordUpload("bytes", success, contents.length, startedAt);
+        }
+    }
+
+    private void upload(String key, MultipartFile file) {
+        long size = file.getSize();
+        boolean multipart = size > multipartThreshold;
+        long startedAt = System.nanoTime();
+        boolean success = false;
+
+        try (InputStream inputStream = file.getInputStream()) {
+            if (multipart) {
+                uploadMultipart(key, file.getContentType(), inputStream, size);
+            } else {
+                s3Client.putObject(
+                        PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .contentType(file.getContentType())
+                                .contentLength(size)
+                                .build(),
+                        RequestBody.fromInputStream(inputStream, size)
+                );
+            }
+            success = true;
+        } catch (IOException | SdkException e) {
+            log.error("[파일 업로드 실패] key={}, size={}", key, size, e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        } finally {
+            recordUpload(multipart ? "multipart" : "single", success, size, startedAt);
+        }
+    }
+
+    private void recordUpload(String mode, boolean success, long size, long startedAt) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Timer.builder("s3.upload")
+                .tag("mode", mode)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (success) {
+            uploadSize.record(size);
+            uploadThroughput.record(size * 1_000_000_000.0 / Math.max(elapsedNanos, 1));
+        }
+    }
+
+    // part 버퍼 하나만 재사용하므로 파일 크기와 무관하게 업로드당 메모리는 partSize 로 고정
+    private void uploadMultipart(String key, String contentType, InputStream inputStream, long size) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        try {
+            byte[] buffer = new byte[(int) Math.min(partSize, size)];
+            List<CompletedPart> completedParts = new ArrayList<>();
+            long remaining = size;
+            int partNumber = 1;
+
+            while (remaining > 0) {
+                int length = readFully(inputStream, buffer, (int) Math.min(buffer.length, remaining));
+                UploadPartResponse response = s3Client.uploadPart(
+                        UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length, contentType)
+                );
+                completedParts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+                remaining -= length;
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            // 완료되지 않은 part 가 버킷에 남아 과금되지 않도록 중단
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (SdkException abortException) {
+                e.addSuppressed(abortException);
+            }
+            throw e;
+        }
+    }
+
+    private static int readFully(InputStream inputStream, byte[] buffer, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int count = inputStream.read(buffer, read, length - read);
+            if (count < 0) {
+                throw new EOFException("파일이 선언된 크기보다 짧습니다");
+            }
+            read += count;
+        }
+        return read;
+    }
+
+    // 크기는 스트림을 열기 전에 검사해서 너무 큰 파일은 읽지 않고 거절
+    private void validateImage(MultipartFile image) {
         if (image.isEmpty()) {
             throw new CustomException(ErrorCode.EMPTY_FILE);
         }
 
+        if (image.getSize() > maxUploadSize) {
+            tooLargeCounter.increment();
+            throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+        }
+
         String contentType = image.getContentType();
         if (contentType == null || !contentType.startsWith("image/")) {
             throw new CustomException(ErrorCode.INVALID_CONTENT_TYPE);
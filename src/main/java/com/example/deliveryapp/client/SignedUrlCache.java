@@ -0,0 +1,52 @@
+package com.example.deliveryapp.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 서명된 URL 을 유효시간의 80% 까지만 재사용
+@Component
+public class SignedUrlCache {
+
+    private static final String CACHE_NAME = "signedUrl";
+    private static final Duration REUSE_DURATION = S3Service.SIGNED_URL_DURATION.multipliedBy(8).dividedBy(10);
+
+    private final S3Service s3Service;
+    private final Cache<String, String> cache;
+
+    public SignedUrlCache(
+            S3Service s3Service,
+            MeterRegistry meterRegistry,
+            @Value("${cache.signed-url.maximum-size:50000}") long maximumSize
+    ) {
+        this.s3Service = s3Service;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(REUSE_DURATION)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public String get(String folder, String fileName) {
+        return cache.get(toKey(folder, fileName), key -> s3Service.createSignedUrl(folder, fileName));
+    }
+
+    public void evict(String folder, String fileName) {
+        cache.invalidate(toKey(folder, fileName));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static String toKey(String folder, String fileName) {
+        return folder + "/" + fileName;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.deliveryapp.config;
+
+import com.example.deliveryapp.domain.common.dto.AuthUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+// 서명 검증이 끝난 토큰을 만료 시각까지 재사용 (키는 토큰 원문 대신 SHA-256 해시)
+@Component
+public class AuthTokenCache {
+
+    private static final String CACHE_NAME = "authToken";
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+
+    public AuthTokenCache(
+            JwtUtil jwtUtil,
+            MeterRegistry meterRegistry,
+            @Value("${cache.auth-token.enabled:false}") boolean enabled,
+            @Value("${cache.auth-token.maximum-size:10000}") long maximumSize
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) ->
+                        Duration.ofMillis(Math.max(0L, token.expiresAt() - System.currentTimeMillis()))))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 서명, 만료 검증에 실패하면 JwtUtil 과 동일한 예외가 그대로 전파되고 캐시에는 남지 않음
+    public AuthUser authenticate(String token) {
+        if (!enabled) {
+            return verify(token).authUser();
+        }
+        return cache.get(hash(token), key -> verify(token)).authUser();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtUtil.extractClaims(token);
+        return new VerifiedToken(jwtUtil.toAuthUser(claims), claims.getExpiration().getTime());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(AuthUser authUser, long expiresAt) {
+    }
+}
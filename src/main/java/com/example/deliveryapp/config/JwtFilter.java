@@ -1,8 +1,8 @@
 package com.example.deliveryapp.config;
 
+import com.example.deliveryapp.domain.common.dto.AuthUser;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.user.enums.UserRole;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -20,7 +20,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    public static final String AUTH_USER_ATTRIBUTE = "authUser";
+
     private final JwtUtil jwtUtil;
+    private final AuthTokenCache authTokenCache;
     private static final String AUTHORIZATION = "Authorization";
     private static final List<String> PERMIT_URIS = List.of("/users/signin", "/users/signup");
 
@@ -53,22 +56,12 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            Claims claims = jwtUtil.extractClaims(jwt);
-
-            if (claims == null) {
-                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
-            }
-
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
-
-            request.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            request.setAttribute("email", claims.get("email"));
-            request.setAttribute("name", claims.get("name"));
-            request.setAttribute("userRole", claims.get("userRole"));
+            // 요청당 한 번만 AuthUser 를 만들어 ArgumentResolver 에서 그대로 사용
+            AuthUser authUser = authTokenCache.authenticate(jwt);
+            request.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
             if (url.startsWith("/owner")) {
-                if (!UserRole.OWNER.equals(userRole)) {
+                if (!UserRole.OWNER.equals(authUser.getUserRole())) {
                     response.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
                     return;
                 }
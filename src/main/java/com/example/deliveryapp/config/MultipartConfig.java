@@ -0,0 +1,25 @@
+package com.example.deliveryapp.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+// 업로드 파일 상한을 S3 업로드 상한(s3.upload.max-size-bytes)에서 만들어 두 설정이 어긋나지 않게 함
+// 상한을 넘는 요청은 본문을 끝까지 받기 전에 multipart 파싱 단계에서 거절됨 (spring.servlet.multipart.max-* 대신 사용)
+@Configuration
+public class MultipartConfig {
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(
+            @Value("${s3.upload.max-size-bytes:10485760}") long maxUploadSize,
+            @Value("${s3.upload.max-request-overhead-bytes:1048576}") long maxRequestOverhead // 파일 외 파트와 경계 문자열
+    ) {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setMaxFileSize(DataSize.ofBytes(maxUploadSize));
+        factory.setMaxRequestSize(DataSize.ofBytes(maxUploadSize + maxRequestOverhead));
+        return factory.createMultipartConfig();
+    }
+}
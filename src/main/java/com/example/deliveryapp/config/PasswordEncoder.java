@@ -1,17 +1,46 @@
 package com.example.deliveryapp.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PasswordEncoder {
 
+    // 새로 만드는 해시의 cost, 올리면 기존 해시는 로그인 성공 시 점진적으로 다시 해시됨
+    // cost 를 정할 때는 PasswordEncoderBenchmark 로 배포 CPU 에서의 ms/hash 를 먼저 확인
+    private final int cost;
+
+    public PasswordEncoder(@Value("${password.bcrypt.cost:10}") int cost) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost must be between "
+                    + BCrypt.MIN_COST + " and " + BCrypt.MAX_COST + ": " + cost);
+        }
+        this.cost = cost;
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
+
+    // "$2a$10$..." 형식에서 cost 를 읽어 목표 cost 보다 낮으면 다시 해시 대상
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
 }
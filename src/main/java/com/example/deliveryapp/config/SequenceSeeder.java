@@ -0,0 +1,93 @@
+package com.example.deliveryapp.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// IDENTITY 에서 시퀀스 id 로 바꾼 테이블은 기존 행이 있으면 시퀀스가 1 부터 시작해 id 가 겹침
+// 웹 서버가 요청을 받기 전에 각 시퀀스의 다음 값을 MAX(id) 이후로 올림 (PK 의 MAX 조회라 매 시작 시 실행해도 가벼움)
+// 시퀀스를 지원하는 DB 는 실제 시퀀스, MySQL 처럼 지원하지 않는 DB 는 Hibernate 가 만든 <시퀀스>(next_val) 테이블을 갱신
+@Slf4j
+@Component
+public class SequenceSeeder implements SmartInitializingSingleton {
+
+    // 엔티티 @SequenceGenerator 의 allocationSize 와 같은 값
+    // pooled 최적화는 가져온 값에서 allocationSize - 1 만큼 아래부터 id 를 발급하므로 MAX(id) + allocationSize 이상이어야 함
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTable> SEQUENCE_TABLES = List.of(
+            new SequenceTable("orders_seq", "orders"),
+            new SequenceTable("order_menus_seq", "order_menus"),
+            new SequenceTable("order_menu_options_seq", "order_menu_options"),
+            new SequenceTable("option_items_seq", "option_items"),
+            new SequenceTable("reviews_seq", "reviews"),
+            new SequenceTable("menus_seq", "menus"),
+            new SequenceTable("option_categories_seq", "option_categories")
+    );
+
+    @Value("${persistence.sequence.seed-on-startup:true}")
+    private boolean seedOnStartup;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SequenceSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (seedOnStartup) {
+            seed();
+        }
+    }
+
+    public int seed() {
+        SequenceSupport sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+
+        int seeded = 0;
+        for (SequenceTable sequenceTable : SEQUENCE_TABLES) {
+            if (seed(sequenceSupport, sequenceTable)) {
+                seeded++;
+            }
+        }
+        if (seeded > 0) {
+            log.info("[시퀀스 초기화] 기존 id 이후로 올린 시퀀스 {}개", seeded);
+        }
+        return seeded;
+    }
+
+    private boolean seed(SequenceSupport sequenceSupport, SequenceTable sequenceTable) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + sequenceTable.table(), Long.class);
+        if (maxId == null || maxId == 0) {
+            return false;
+        }
+        long nextValue = maxId + ALLOCATION_SIZE;
+
+        if (!sequenceSupport.supportsSequences()) {
+            // 여러 인스턴스가 동시에 시작해도 더 작은 값으로 되돌리지 않음
+            return jdbcTemplate.update("UPDATE " + sequenceTable.sequence() + " SET next_val = ? WHERE next_val < ?",
+                    nextValue, nextValue) > 0;
+        }
+
+        Long currentValue = jdbcTemplate.queryForObject(
+                sequenceSupport.getSequenceNextValString(sequenceTable.sequence()), Long.class);
+        if (currentValue != null && currentValue >= nextValue) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceTable.sequence() + " RESTART WITH " + nextValue);
+        return true;
+    }
+
+    private record SequenceTable(String sequence, String table) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.deliveryapp.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 로컬 캐시 무효화 공통 처리
+public final class CacheInvalidation {
+
+    private CacheInvalidation() {
+    }
+
+    // 즉시 무효화하고, 트랜잭션 안이면 커밋 이후 한 번 더 무효화
+    // 커밋 전에 다른 요청이 변경 전 데이터를 다시 적재할 수 있기 때문
+    public static <K> void evictNowAndAfterCommit(Cache<K, ?> cache, K key) {
+        cache.invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+}
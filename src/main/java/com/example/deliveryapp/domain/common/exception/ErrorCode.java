@@ -30,6 +30,7 @@ public enum ErrorCode {
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "USER006", "비밀번호가 올바르지 않습니다"),
     OWNER_ONLY_ACCESS(HttpStatus.FORBIDDEN, "USER007", "OWNER 권한이 필요합니다"),
     USER_ONLY_ACCESS(HttpStatus.FORBIDDEN, "USER008", "USER 권한이 필요합니다"),
+    PASSWORD_HASH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "USER009", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요"),
 
 
     // STORE
@@ -46,14 +47,19 @@ public enum ErrorCode {
     // MENU
     MENU_NOT_FOUND(HttpStatus.NOT_FOUND, "MENU001", "메뉴를 찾을 수 없습니다"),
     NOT_STORE_MENU(HttpStatus.BAD_REQUEST, "MENU002", "해당 가게에 속한 메뉴가 아닙니다"),
+    MENU_IMPORT_INVALID_ROW(HttpStatus.BAD_REQUEST, "MENU003", "메뉴 데이터 형식이 올바르지 않습니다"),
+    MENU_IMPORT_ROW_TOO_LONG(HttpStatus.BAD_REQUEST, "MENU004", "메뉴 데이터 한 줄의 길이가 너무 깁니다"),
+    MENU_IMPORT_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "MENU005", "메뉴 저장에 실패했습니다"),
 
     // MENU OPTION
     OPTION_NOT_FOUND(HttpStatus.NOT_FOUND, "OPTION001", "옵션을 찾을 수 없습니다"),
+    OPTION_ITEM_DUPLICATE(HttpStatus.BAD_REQUEST, "OPTION002", "같은 옵션 항목이 중복으로 요청되었습니다"),
 
     // FILE
     EMPTY_FILE(HttpStatus.BAD_REQUEST, "FILE001", "빈 파일은 업로드할 수 없습니다"),
     INVALID_CONTENT_TYPE(HttpStatus.BAD_REQUEST, "FILE002", "이미지 파일만 업로드할 수 있습니다"),
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "FILE003", "파일 업로드에 실패하였습니다"),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "FILE004", "파일 크기가 허용된 최대 크기를 초과했습니다"),
 
     // CART
     OPTION_CATEGORY_DUPLICATE(HttpStatus.BAD_REQUEST, "CART001", "중복된 옵션 카테고리 ID가 요청되었습니다"),
@@ -64,6 +70,8 @@ public enum ErrorCode {
     EXCEEDS_MAX_OPTION_SELECTION(HttpStatus.BAD_REQUEST, "CART006", "최대 선택 가능 수를 초과하여 옵션을 선택했습니다"),
     INVALID_OPTION_ITEM(HttpStatus.BAD_REQUEST, "CART007", "선택한 옵션 항목이 해당 옵션 카테고리에 존재하지 않습니다"),
     CART_NOT_FOUND(HttpStatus.NOT_FOUND, "CART008", "장바구니가 비었습니다"),
+    CART_MIXED_STORES(HttpStatus.BAD_REQUEST, "CART009", "한 번에 담는 메뉴는 모두 같은 가게의 메뉴여야 합니다"),
+    CART_QUANTITY_EXCEEDED(HttpStatus.BAD_REQUEST, "CART010", "한 메뉴는 최대 99개까지 담을 수 있습니다"),
 
     // ORDER
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER001", "주문 정보를 찾을 수 없습니다"),
@@ -75,7 +83,11 @@ public enum ErrorCode {
     ORDER_CANNOT_BE_CART(HttpStatus.BAD_REQUEST,"ORDER007","이미 주문된 상태입니다"),
     ORDER_CLOSED(HttpStatus.BAD_REQUEST, "ORDER008", "가게 운영 시간이 아닙니다"),
     ORDER_TOO_CHEAP(HttpStatus.BAD_REQUEST, "ORDER009", "최소 주문 금액을 만족해야 주문이 가능합니다"),
-    ORDER_MENU_NOT_FOUND(HttpStatus.BAD_REQUEST,"ORDER010","장바구니 메뉴가 존재하지 않습니다" );
+    ORDER_MENU_NOT_FOUND(HttpStatus.BAD_REQUEST,"ORDER010","장바구니 메뉴가 존재하지 않습니다" ),
+    INVALID_ORDER_CURSOR(HttpStatus.BAD_REQUEST, "ORDER011", "유효하지 않은 주문 목록 커서입니다"),
+
+    // REVIEW
+    INVALID_REVIEW_RATING(HttpStatus.BAD_REQUEST, "REVIEW001", "별점은 1점부터 5점까지 입력할 수 있습니다");
 
 
     private final HttpStatus status;
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.util.Map;
@@ -23,9 +24,17 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    // 503 응답은 일시적인 과부하이므로 재시도 시점을 함께 알려줌
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     @ExceptionHandler
     public ResponseEntity<ErrorResponse> handleCustomException(CustomException ex) {
         ErrorResponse body = ErrorResponse.of(ex.getErrorCode());
+        if (ex.getHttpStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(ex.getHttpStatus())
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(body);
+        }
         return new ResponseEntity<>(body, ex.getHttpStatus());
     }
 
@@ -69,4 +78,11 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return super.handleExceptionInternal(ex, body, headers, status, request);
     }
 
+    // MultipartConfig 의 파일/요청 상한 초과는 본문을 다 읽기 전에 multipart 파싱 단계에서 거절됨
+    @Override
+    protected ResponseEntity<Object> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+        ErrorResponse body = ErrorResponse.of(ErrorCode.FILE_TOO_LARGE);
+        return super.handleExceptionInternal(ex, body, headers, status, request);
+    }
+
 }
@@ -0,0 +1,74 @@
+package com.example.deliveryapp.domain.menu.cache;
+
+import com.example.deliveryapp.domain.common.cache.CacheInvalidation;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class MenuOptionCatalogCache {
+
+    private static final String CACHE_NAME = "menuOptionCatalog";
+
+    private final OptionCategoryRepository optionCategoryRepository;
+    private final Cache<Long, MenuOptionCatalog> cache;
+
+    public MenuOptionCatalogCache(
+            OptionCategoryRepository optionCategoryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.menu-option-catalog.maximum-size:10000}") long maximumSize,
+            @Value("${cache.menu-option-catalog.expire-after-write-seconds:300}") long expireAfterWriteSeconds
+    ) {
+        this.optionCategoryRepository = optionCategoryRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize) // W-TinyLFU 기반 크기 제한
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds)) // 다른 인스턴스에서 옵션을 수정한 경우의 상한
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public MenuOptionCatalog get(Long menuId) {
+        return cache.get(menuId, id -> MenuOptionCatalog.of(id, optionCategoryRepository.findAllByMenuId(id)));
+    }
+
+    // 캐시에 없는 메뉴들은 한 번의 쿼리로 함께 적재
+    public Map<Long, MenuOptionCatalog> getAll(Collection<Long> menuIds) {
+        return cache.getAll(menuIds, this::loadAll);
+    }
+
+    public void evict(Long menuId) {
+        CacheInvalidation.evictNowAndAfterCommit(cache, menuId);
+    }
+
+    private Map<Long, MenuOptionCatalog> loadAll(Set<? extends Long> menuIds) {
+        Map<Long, List<OptionCategory>> optionCategoriesByMenuId = optionCategoryRepository
+                .findAllByMenuIdIn(List.copyOf(menuIds)).stream()
+                .collect(Collectors.groupingBy(optionCategory -> optionCategory.getMenu().getId()));
+
+        return menuIds.stream()
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        menuId -> MenuOptionCatalog.of(menuId, optionCategoriesByMenuId.getOrDefault(menuId, List.of()))
+                ));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -3,21 +3,35 @@ package com.example.deliveryapp.domain.menu.controller;
 import com.example.deliveryapp.domain.common.annotation.Auth;
 import com.example.deliveryapp.domain.common.dto.AuthUser;
 import com.example.deliveryapp.domain.menu.dto.request.MenuRequest;
+import com.example.deliveryapp.domain.menu.dto.response.MenuImportSummaryResponse;
 import com.example.deliveryapp.domain.menu.dto.response.MenuResponse;
 import com.example.deliveryapp.domain.menu.dto.response.MenuResponseWithImageUrl;
+import com.example.deliveryapp.domain.menu.service.MenuImportService;
 import com.example.deliveryapp.domain.menu.service.MenuOwnerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/stores/{storeId}/menus")
 public class MenuOwnerController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final MenuOwnerService menuOwnerService;
+    private final MenuImportService menuImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<MenuResponse> saveMenu(
@@ -29,6 +43,20 @@ public class MenuOwnerController {
         return ResponseEntity.ok(response);
     }
 
+    // NDJSON(한 줄에 메뉴 하나)으로 메뉴 일괄 등록
+    // 저장된 chunk 의 줄별 결과를 NDJSON 으로 바로 내려주고 마지막 줄에 요약을 씀
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public void importMenus(
+            @Auth AuthUser authUser,
+            @PathVariable Long storeId,
+            InputStream requestBody,
+            HttpServletResponse response
+    ) {
+        MenuImportSummaryResponse summary = menuImportService.importMenus(
+                authUser.getId(), storeId, requestBody, results -> writeLines(response, results));
+        writeLines(response, List.of(summary));
+    }
+
     @PutMapping("/{menuId}")
     public ResponseEntity<MenuResponse> updateMenu(
             @Auth AuthUser authUser,
@@ -70,4 +98,19 @@ public class MenuOwnerController {
         menuOwnerService.deleteMenuImage(authUser.getId(), storeId, menuId);
         return ResponseEntity.ok().build();
     }
+
+    // 권한 오류 등은 첫 줄을 쓰기 전에 발생하므로 응답 타입은 쓸 때 지정 (예외 응답은 JSON 으로 나감)
+    private void writeLines(HttpServletResponse response, List<?> lines) {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try {
+            for (Object line : lines) {
+                response.getOutputStream().write(objectMapper.writeValueAsBytes(line));
+                response.getOutputStream().write('\n');
+            }
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
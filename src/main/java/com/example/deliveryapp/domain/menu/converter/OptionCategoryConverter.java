@@ -1,5 +1,7 @@
 package com.example.deliveryapp.domain.menu.converter;
 
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog.OptionCategorySnapshot;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog.OptionItemSnapshot;
 import com.example.deliveryapp.domain.menu.dto.request.OptionCategoryRequest;
 import com.example.deliveryapp.domain.menu.dto.request.OptionItemRequest;
 import com.example.deliveryapp.domain.menu.dto.response.OptionCategoryResponse;
@@ -59,7 +61,30 @@ public class OptionCategoryConverter {
         );
     }
 
-    public static OptionCategoryPageResponse toResponse(Page<OptionCategory> optionCategoryPage) {
+    public static OptionCategoryResponse toResponse(OptionCategorySnapshot optionCategory) {
+        List<OptionItemResponse> optionItemResponses = optionCategory.getOptionItems().stream()
+                .map(OptionCategoryConverter::toResponse)
+                .toList();
+
+        return new OptionCategoryResponse(
+                optionCategory.getId(),
+                optionCategory.getName(),
+                optionCategory.getIsRequired(),
+                optionCategory.getIsMultiple(),
+                optionCategory.getMaxOptions(),
+                optionItemResponses
+        );
+    }
+
+    public static OptionItemResponse toResponse(OptionItemSnapshot optionItem) {
+        return new OptionItemResponse(
+                optionItem.getId(),
+                optionItem.getName(),
+                optionItem.getAdditionalPrice()
+        );
+    }
+
+    public static OptionCategoryPageResponse toResponse(Page<OptionCategorySnapshot> optionCategoryPage) {
         List<OptionCategoryResponse> optionCategoryResponses = optionCategoryPage.getContent().stream()
                 .map(OptionCategoryConverter::toResponse)
                 .toList();
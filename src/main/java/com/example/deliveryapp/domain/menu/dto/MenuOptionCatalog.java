@@ -0,0 +1,80 @@
+package com.example.deliveryapp.domain.menu.dto;
+
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.entity.OptionItem;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 메뉴 하나의 옵션 카테고리/항목을 담은 불변 스냅샷 (캐시 저장용)
+@Getter
+public class MenuOptionCatalog {
+
+    private final Long menuId;
+    private final List<OptionCategorySnapshot> optionCategories;
+    private final Map<Long, OptionItemSnapshot> optionItems;
+
+    private MenuOptionCatalog(Long menuId, List<OptionCategorySnapshot> optionCategories) {
+        this.menuId = menuId;
+        this.optionCategories = optionCategories;
+        this.optionItems = optionCategories.stream()
+                .flatMap(optionCategory -> optionCategory.getOptionItems().stream())
+                .collect(Collectors.toUnmodifiableMap(OptionItemSnapshot::getId, Function.identity()));
+    }
+
+    public static MenuOptionCatalog of(Long menuId, List<OptionCategory> optionCategories) {
+        List<OptionCategorySnapshot> snapshots = optionCategories.stream()
+                .sorted(Comparator.comparing(OptionCategory::getId))
+                .map(OptionCategorySnapshot::new)
+                .toList();
+        return new MenuOptionCatalog(menuId, snapshots);
+    }
+
+    public OptionItemSnapshot getOptionItem(Long optionItemId) {
+        return optionItems.get(optionItemId);
+    }
+
+    @Getter
+    public static class OptionCategorySnapshot {
+        private final Long id;
+        private final String name;
+        private final Boolean isRequired;
+        private final Boolean isMultiple;
+        private final Integer maxOptions;
+        private final List<OptionItemSnapshot> optionItems;
+        private final Set<Long> optionItemIds;
+
+        private OptionCategorySnapshot(OptionCategory optionCategory) {
+            this.id = optionCategory.getId();
+            this.name = optionCategory.getName();
+            this.isRequired = optionCategory.getIsRequired();
+            this.isMultiple = optionCategory.getIsMultiple();
+            this.maxOptions = optionCategory.getMaxOptions();
+            this.optionItems = optionCategory.getOptionItems().stream()
+                    .sorted(Comparator.comparing(OptionItem::getId))
+                    .map(OptionItemSnapshot::new)
+                    .toList();
+            this.optionItemIds = this.optionItems.stream()
+                    .map(OptionItemSnapshot::getId)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    @Getter
+    public static class OptionItemSnapshot {
+        private final Long id;
+        private final String name;
+        private final Long additionalPrice;
+
+        private OptionItemSnapshot(OptionItem optionItem) {
+            this.id = optionItem.getId();
+            this.name = optionItem.getName();
+            this.additionalPrice = optionItem.getAdditionalPrice();
+        }
+    }
+}
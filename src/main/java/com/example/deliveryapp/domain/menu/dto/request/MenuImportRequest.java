@@ -0,0 +1,29 @@
+package com.example.deliveryapp.domain.menu.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 메뉴 일괄 등록 NDJSON 의 한 줄 (메뉴 + 옵션 카테고리)
+@Getter
+@AllArgsConstructor
+public class MenuImportRequest {
+    @NotBlank
+    @Size(max = 255)
+    private final String menuName;
+
+    @NotNull
+    private final Long price;
+
+    @Size(max = 255)
+    private final String description;
+
+    @Size(max = 20)
+    @Valid
+    private final List<OptionCategoryRequest> optionCategories;
+}
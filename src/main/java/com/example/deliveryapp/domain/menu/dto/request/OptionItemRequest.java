@@ -8,6 +8,8 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public class OptionItemRequest {
+    // 수정 시 기존 옵션 항목 id, 없으면 이름으로 기존 항목을 찾고 그래도 없으면 새로 추가
+    private final Long optionItemId;
     @NotBlank
     private final String optionItemName;
     @NotNull
@@ -0,0 +1,28 @@
+package com.example.deliveryapp.domain.menu.dto.response;
+
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 메뉴 일괄 등록 결과 (요청 한 줄당 하나)
+@Getter
+@AllArgsConstructor
+public class MenuImportRowResponse {
+    private final long line;
+    private final boolean success;
+    private final Long menuId;
+    private final String errorCode;
+    private final String message;
+
+    public static MenuImportRowResponse created(long line, Long menuId) {
+        return new MenuImportRowResponse(line, true, menuId, null, null);
+    }
+
+    public static MenuImportRowResponse failed(long line, ErrorCode errorCode, String message) {
+        return new MenuImportRowResponse(line, false, null, errorCode.getCode(), message);
+    }
+
+    public static MenuImportRowResponse failed(long line, ErrorCode errorCode) {
+        return failed(line, errorCode, errorCode.getMessage());
+    }
+}
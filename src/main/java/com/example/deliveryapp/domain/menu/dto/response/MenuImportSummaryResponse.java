@@ -0,0 +1,13 @@
+package com.example.deliveryapp.domain.menu.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 메뉴 일괄 등록 결과 요약 (결과 스트림의 마지막 줄)
+@Getter
+@AllArgsConstructor
+public class MenuImportSummaryResponse {
+    private final long totalRows;
+    private final long createdCount;
+    private final long failedCount;
+}
@@ -12,5 +12,9 @@ public class MenuResponseWithImageUrl {
     private final String menuName;
     private final Long price;
     private final String description;
-    private final String imageUrl;
+    private final String imageUrl; // 원본
+    // 크기별 이미지 (업로드 직후 변환이 끝나기 전이나 변환에 실패한 경우 null, 이때는 원본 사용)
+    private final String thumbnailImageUrl;
+    private final String listImageUrl;
+    private final String detailImageUrl;
 }
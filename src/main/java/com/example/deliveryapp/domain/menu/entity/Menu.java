@@ -14,7 +14,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Menu extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menus_seq")
+    @SequenceGenerator(name = "menus_seq", sequenceName = "menus_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,6 +29,9 @@ public class Menu extends Timestamped {
 
     private String imageUrl;
 
+    // imageUrl 원본의 크기별 이미지(MenuImageVariant)가 모두 저장되었는지
+    private boolean imageVariantsReady;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id", nullable = false)
     private Store store;
@@ -47,5 +52,6 @@ public class Menu extends Timestamped {
 
     public void setImageUrl(String imageUrl) {
         this.imageUrl = imageUrl;
+        this.imageVariantsReady = false;
     }
 }
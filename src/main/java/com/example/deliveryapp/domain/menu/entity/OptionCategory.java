@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Entity
@@ -15,7 +16,9 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OptionCategory {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_categories_seq")
+    @SequenceGenerator(name = "option_categories_seq", sequenceName = "option_categories_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -60,4 +63,8 @@ public class OptionCategory {
     public void clearOptionItems() {
         this.optionItems.clear();
     }
+
+    public void removeOptionItems(Collection<OptionItem> optionItems) {
+        this.optionItems.removeAll(optionItems);
+    }
 }
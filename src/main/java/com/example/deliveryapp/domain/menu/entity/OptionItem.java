@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OptionItem {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_items_seq")
+    @SequenceGenerator(name = "option_items_seq", sequenceName = "option_items_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -34,4 +36,9 @@ public class OptionItem {
     public void setOptionCategory(OptionCategory optionCategory) {
         this.optionCategory = optionCategory;
     }
+
+    public void update(String name, Long additionalPrice) {
+        this.name = name;
+        this.additionalPrice = additionalPrice;
+    }
 }
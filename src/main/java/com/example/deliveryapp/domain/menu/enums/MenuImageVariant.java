@@ -0,0 +1,26 @@
+package com.example.deliveryapp.domain.menu.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 업로드 원본에서 만드는 크기별 이미지 (긴 변 기준 최대 크기, 원본보다 크게 늘리지는 않음)
+// 큰 것부터 순서대로 앞 단계 결과를 줄여서 만들므로 순서를 유지해야 함
+@Getter
+@RequiredArgsConstructor
+public enum MenuImageVariant {
+    DETAIL("detail", 1280),
+    LIST("list", 480),
+    THUMBNAIL("thumbnail", 240); // 목록 120px 썸네일의 2배 (고밀도 화면)
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final String path;
+    private final int maxEdge;
+
+    // {원본 이름}.png -> thumbnail/{원본 이름}.jpg
+    public String fileName(String originalFileName) {
+        int extensionIndex = originalFileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? originalFileName.substring(0, extensionIndex) : originalFileName;
+        return path + "/" + baseName + ".jpg";
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.deliveryapp.domain.menu.image;
+
+import com.example.deliveryapp.client.S3Service;
+import com.example.deliveryapp.domain.menu.enums.MenuImageVariant;
+import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 메뉴 이미지 원본을 한 번만 디코딩해서 크기별 JPEG(MenuImageVariant)로 저장하는 전용 풀
+// 디코딩/리사이즈는 CPU 와 메모리를 많이 쓰므로 요청 스레드가 아닌 고정 크기 풀에서 처리하고,
+// 대기열이 가득 차면 기다리지 않고 건너뜀 (크기별 이미지가 없으면 원본 URL 을 그대로 사용)
+@Slf4j
+@Component
+public class MenuImageProcessor {
+
+    private final S3Service s3Service;
+    private final MenuRepository menuRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String menuFolder;
+    private final long maxPixels;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer processTimer;
+    private final Timer waitTimer;
+    private final Counter queueFullCounter;
+    private final Counter failureCounter;
+
+    public MenuImageProcessor(
+            S3Service s3Service,
+            MenuRepository menuRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${s3.folder.menu}") String menuFolder,
+            @Value("${menu.image.threads:0}") int threads, // 0 이면 코어 수의 절반
+            @Value("${menu.image.queue-capacity:32}") int queueCapacity,
+            @Value("${menu.image.max-pixels:40000000}") long maxPixels, // 디코딩 전에 해상도로 거절 (압축 폭탄 방지)
+            @Value("${menu.image.jpeg-quality:0.8}") float jpegQuality
+    ) {
+        this.s3Service = s3Service;
+        this.menuRepository = menuRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.menuFolder = menuFolder;
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "menu-image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.processTimer = Timer.builder("menu.image.process").register(meterRegistry);
+        this.waitTimer = Timer.builder("menu.image.wait").register(meterRegistry);
+        this.queueFullCounter = meterRegistry.counter("menu.image.rejected", "reason", "queue-full");
+        this.failureCounter = meterRegistry.counter("menu.image.rejected", "reason", "failed");
+        meterRegistry.gauge("menu.image.queue.size", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("menu.image.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 요청이 끝나면 업로드 임시 파일이 지워지므로 여기서 복사해두고, 메뉴 이미지 변경이 커밋된 뒤에 풀에 넘김
+    public void submitAfterCommit(Long menuId, String fileName, MultipartFile file) {
+        Path source;
+        try {
+            source = Files.createTempFile("menu-image-", ".tmp");
+        } catch (IOException e) {
+            failureCounter.increment();
+            log.warn("[메뉴 이미지 변환] 임시 파일 생성 실패 menuId={}", menuId, e);
+            return;
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            Files.copy(inputStream, source, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            failureCounter.increment();
+            log.warn("[메뉴 이미지 변환] 임시 파일 복사 실패 menuId={}", menuId, e);
+            deleteQuietly(source);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(menuId, fileName, source);
+                    } else {
+                        deleteQuietly(source);
+                    }
+                }
+            });
+            return;
+        }
+        submit(menuId, fileName, source);
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private void submit(Long menuId, String fileName, Path source) {
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                processTimer.record(() -> process(menuId, fileName, source));
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            log.warn("[메뉴 이미지 변환] 대기열이 가득 차 건너뜀 menuId={}, queueSize={}", menuId, getQueueSize());
+            deleteQuietly(source);
+        }
+    }
+
+    // 큰 크기부터 앞 단계 결과를 줄여가며 만들고, 모두 저장한 뒤에만 메뉴에 표시
+    void process(Long menuId, String fileName, Path source) {
+        List<String> storedFileNames = new ArrayList<>();
+        try {
+            BufferedImage image = decode(source, maxPixels);
+            for (MenuImageVariant variant : MenuImageVariant.values()) {
+                image = resize(image, variant.getMaxEdge());
+                String variantFileName = variant.fileName(fileName);
+                s3Service.uploadImage(menuFolder, variantFileName, encode(image, jpegQuality), MenuImageVariant.CONTENT_TYPE);
+                storedFileNames.add(variantFileName);
+            }
+
+            Integer updated = transactionTemplate.execute(status -> menuRepository.markImageVariantsReady(menuId, fileName));
+            if (updated == null || updated == 0) {
+                // 처리하는 동안 이미지가 바뀌었거나 메뉴 이미지가 삭제됨
+                deleteStored(storedFileNames);
+            }
+        } catch (IOException | RuntimeException e) {
+            failureCounter.increment();
+            log.warn("[메뉴 이미지 변환] 실패 menuId={}, fileName={}", menuId, fileName, e);
+            deleteStored(storedFileNames);
+        } finally {
+            deleteQuietly(source);
+        }
+    }
+
+    private void deleteStored(List<String> storedFileNames) {
+        for (String storedFileName : storedFileNames) {
+            try {
+                s3Service.deleteImage(menuFolder, storedFileName);
+            } catch (RuntimeException e) {
+                log.warn("[메뉴 이미지 변환] 정리 실패 fileName={}", storedFileName, e);
+            }
+        }
+    }
+
+    // 픽셀 데이터를 읽기 전에 헤더의 해상도부터 확인
+    static BufferedImage decode(Path source, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + pixels + " pixels");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxEdge 가 되도록 줄임 (작은 이미지는 그대로), 결과는 항상 JPEG 로 쓸 수 있는 RGB
+    // 한 번에 크게 줄이면 픽셀이 뭉개지므로 목표 크기에 닿을 때까지 절반씩 줄임
+    static BufferedImage resize(BufferedImage source, int maxEdge) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        while (current.getWidth() != targetWidth || current.getHeight() != targetHeight
+                || current.getType() != BufferedImage.TYPE_INT_RGB) {
+            int nextWidth = Math.max(targetWidth, current.getWidth() / 2);
+            int nextHeight = Math.max(targetHeight, current.getHeight() / 2);
+            current = draw(current, nextWidth, nextHeight);
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE); // 투명한 부분은 흰 배경
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    static byte[] encode(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[메뉴 이미지 변환] 임시 파일 삭제 실패 path={}", path, e);
+        }
+    }
+}
@@ -7,15 +7,19 @@ import com.example.deliveryapp.domain.menu.entity.Menu;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
     Optional<Menu> findByIdAndDeletedAtIsNull(Long id);
 
+    List<Menu> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
     Page<Menu> findAllByStoreIdAndDeletedAtIsNull(Long storeId, Pageable pageable);
 
     default Menu findActiveMenuByIdOrThrow(Long id) {
@@ -28,11 +32,11 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
             "WHERE m.store.id = :storeId AND m.deletedAt IS NULL")
     List<MenuResponse> findListByStoreId(@Param("storeId") Long storeId);
 
-    @Query("SELECT s.user.id FROM Menu m JOIN m.store s WHERE m.id = :menuId AND m.deletedAt IS NULL")
-    Optional<Long> findOwnerIdByMenuId(@Param("menuId") Long menuId);
+    @Query("SELECT m.store.id FROM Menu m WHERE m.id = :menuId AND m.deletedAt IS NULL")
+    Optional<Long> findStoreIdByMenuId(@Param("menuId") Long menuId);
 
-    default Long findOwnerIdByMenuIdOrThrow(Long id) {
-        return findOwnerIdByMenuId(id)
-                .orElseThrow(() -> new CustomException(ErrorCode.MENU_NOT_FOUND));
-    }
+    // 처리하는 동안 이미지가 바뀌었으면 갱신하지 않음 (0 반환)
+    @Modifying
+    @Query("UPDATE Menu m SET m.imageVariantsReady = true WHERE m.id = :menuId AND m.imageUrl = :imageUrl")
+    int markImageVariantsReady(@Param("menuId") Long menuId, @Param("imageUrl") String imageUrl);
 }
@@ -3,11 +3,10 @@ package com.example.deliveryapp.domain.menu.repository;
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.menu.entity.OptionCategory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +21,8 @@ public interface OptionCategoryRepository extends JpaRepository<OptionCategory,
     }
 
     @EntityGraph(attributePaths = "optionItems")
-    Page<OptionCategory> findAllByMenuId(Long menuId, Pageable pageable);
-
     List<OptionCategory> findAllByMenuId(Long menuId);
+
+    @EntityGraph(attributePaths = "optionItems")
+    List<OptionCategory> findAllByMenuIdIn(Collection<Long> menuIds);
 }
@@ -0,0 +1,252 @@
+package com.example.deliveryapp.domain.menu.service;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.converter.OptionCategoryConverter;
+import com.example.deliveryapp.domain.menu.dto.request.MenuImportRequest;
+import com.example.deliveryapp.domain.menu.dto.response.MenuImportRowResponse;
+import com.example.deliveryapp.domain.menu.dto.response.MenuImportSummaryResponse;
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// NDJSON(한 줄에 메뉴 하나)을 읽는 대로 chunkSize 단위로 저장
+// 한 번에 들고 있는 것은 chunk 하나 분량의 요청/엔티티뿐이라 파일 크기와 무관하게 메모리 사용량이 일정
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MenuImportService {
+
+    @Value("${menu.import.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${menu.import.max-line-length:65536}")
+    private int maxLineLength;
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final OptionCategoryRepository optionCategoryRepository;
+    private final StoreOwnershipCache storeOwnershipCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    // 가게/권한은 시작할 때 한 번만 검사, 결과는 chunk 가 끝날 때마다 resultConsumer 로 전달
+    public MenuImportSummaryResponse importMenus(
+            Long userId,
+            Long storeId,
+            InputStream inputStream,
+            Consumer<List<MenuImportRowResponse>> resultConsumer
+    ) {
+        if (!storeOwnershipCache.getOwnerId(storeId).equals(userId)) {
+            throw new CustomException(ErrorCode.NOT_STORE_OWNER);
+        }
+
+        ObjectReader requestReader = objectMapper.readerFor(MenuImportRequest.class);
+        BoundedLineReader lineReader = new BoundedLineReader(
+                new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), maxLineLength);
+        ImportChunk chunk = new ImportChunk();
+        long lineNumber = 0;
+        long totalRows = 0;
+        long createdCount = 0;
+
+        try {
+            String line;
+            while ((line = lineReader.readLine()) != null) {
+                lineNumber++;
+                if (lineReader.isTruncated()) {
+                    chunk.failures.add(MenuImportRowResponse.failed(lineNumber, ErrorCode.MENU_IMPORT_ROW_TOO_LONG));
+                } else if (line.isBlank()) {
+                    continue;
+                } else {
+                    parse(requestReader, lineNumber, line, chunk);
+                }
+                totalRows++;
+
+                if (chunk.size() >= chunkSize) {
+                    createdCount += flush(storeId, chunk, resultConsumer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (chunk.size() > 0) {
+            createdCount += flush(storeId, chunk, resultConsumer);
+        }
+
+        log.info("[메뉴 일괄 등록] storeId={}, rows={}, created={}", storeId, totalRows, createdCount);
+        return new MenuImportSummaryResponse(totalRows, createdCount, totalRows - createdCount);
+    }
+
+    private void parse(ObjectReader requestReader, long lineNumber, String line, ImportChunk chunk) {
+        MenuImportRequest request;
+        try {
+            request = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            request = null;
+        }
+        if (request == null) { // JSON 이 아니거나 "null" 인 줄
+            chunk.failures.add(MenuImportRowResponse.failed(lineNumber, ErrorCode.MENU_IMPORT_INVALID_ROW));
+            return;
+        }
+
+        Set<ConstraintViolation<MenuImportRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            chunk.failures.add(MenuImportRowResponse.failed(lineNumber, ErrorCode.MENU_IMPORT_INVALID_ROW, message));
+            return;
+        }
+
+        chunk.lineNumbers.add(lineNumber);
+        chunk.requests.add(request);
+    }
+
+    // chunk 하나를 한 트랜잭션으로 저장, 실패하면 그 chunk 의 행만 실패로 보고하고 다음 chunk 를 계속 진행
+    private long flush(Long storeId, ImportChunk chunk, Consumer<List<MenuImportRowResponse>> resultConsumer) {
+        List<MenuImportRowResponse> results = new ArrayList<>(chunk.failures);
+        long createdCount = 0;
+        if (!chunk.requests.isEmpty()) {
+            try {
+                List<Long> menuIds = transactionTemplate.execute(status -> save(storeId, chunk.requests));
+                for (int i = 0; i < chunk.lineNumbers.size(); i++) {
+                    results.add(MenuImportRowResponse.created(chunk.lineNumbers.get(i), menuIds.get(i)));
+                }
+                createdCount = menuIds.size();
+            } catch (RuntimeException e) {
+                log.warn("[메뉴 일괄 등록] chunk 저장 실패 storeId={}, lines={}~{}", storeId,
+                        chunk.lineNumbers.get(0), chunk.lineNumbers.get(chunk.lineNumbers.size() - 1), e);
+                chunk.lineNumbers.forEach(lineNumber ->
+                        results.add(MenuImportRowResponse.failed(lineNumber, ErrorCode.MENU_IMPORT_SAVE_FAILED)));
+            }
+        }
+        chunk.clear();
+
+        results.sort(Comparator.comparingLong(MenuImportRowResponse::getLine));
+        resultConsumer.accept(results);
+        return createdCount;
+    }
+
+    // 메뉴, 옵션 카테고리, 옵션 항목 모두 시퀀스 id 라 insert 가 테이블마다 JDBC 배치로 묶임
+    private List<Long> save(Long storeId, List<MenuImportRequest> requests) {
+        Store store = storeRepository.getReferenceById(storeId); // 권한 검사에서 이미 확인했으므로 조회하지 않음
+        List<Menu> menus = new ArrayList<>(requests.size());
+        List<OptionCategory> optionCategories = new ArrayList<>();
+
+        for (MenuImportRequest request : requests) {
+            Menu menu = Menu.builder()
+                    .name(request.getMenuName())
+                    .price(request.getPrice())
+                    .description(request.getDescription())
+                    .store(store)
+                    .build();
+            menus.add(menu);
+
+            if (request.getOptionCategories() != null) {
+                request.getOptionCategories().stream()
+                        .map(optionCategoryRequest -> OptionCategoryConverter.toEntity(optionCategoryRequest, menu))
+                        .forEach(optionCategories::add);
+            }
+        }
+
+        menuRepository.saveAll(menus);
+        optionCategoryRepository.saveAll(optionCategories);
+
+        // 요청 전체에서 영속성 컨텍스트가 유지되므로(open-in-view) chunk 마다 비워서 엔티티가 쌓이지 않게 함
+        entityManager.flush();
+        entityManager.clear();
+
+        return menus.stream().map(Menu::getId).toList();
+    }
+
+    private static class ImportChunk {
+        private final List<Long> lineNumbers = new ArrayList<>();
+        private final List<MenuImportRequest> requests = new ArrayList<>();
+        private final List<MenuImportRowResponse> failures = new ArrayList<>();
+
+        private int size() {
+            return requests.size() + failures.size();
+        }
+
+        private void clear() {
+            lineNumbers.clear();
+            requests.clear();
+            failures.clear();
+        }
+    }
+
+    // 줄바꿈 없이 아주 긴 입력이 와도 maxLength 까지만 버퍼에 담고 나머지는 읽고 버림
+    static class BoundedLineReader {
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean truncated;
+
+        BoundedLineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        String readLine() throws IOException {
+            buffer.setLength(0);
+            truncated = false;
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '\n') {
+                    return currentLine();
+                }
+                if (buffer.length() < maxLength) {
+                    buffer.append((char) c);
+                } else {
+                    truncated = true;
+                }
+            }
+            return buffer.isEmpty() && !truncated ? null : currentLine();
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        private String currentLine() {
+            int length = buffer.length();
+            if (length > 0 && buffer.charAt(length - 1) == '\r') {
+                buffer.setLength(length - 1);
+            }
+            return buffer.toString();
+        }
+    }
+}
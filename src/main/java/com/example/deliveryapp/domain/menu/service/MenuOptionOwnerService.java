@@ -2,18 +2,31 @@ package com.example.deliveryapp.domain.menu.service;
 
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
 import com.example.deliveryapp.domain.menu.converter.OptionCategoryConverter;
 import com.example.deliveryapp.domain.menu.dto.request.OptionCategoryRequest;
+import com.example.deliveryapp.domain.menu.dto.request.OptionItemRequest;
 import com.example.deliveryapp.domain.menu.dto.response.OptionCategoryResponse;
 import com.example.deliveryapp.domain.menu.entity.Menu;
 import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.entity.OptionItem;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
 import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
 import com.example.deliveryapp.domain.menu.repository.OptionItemRepository;
+import com.example.deliveryapp.domain.order.repository.OrderMenuOptionRepository;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -22,6 +35,9 @@ public class MenuOptionOwnerService {
     private final MenuRepository menuRepository;
     private final OptionCategoryRepository optionCategoryRepository;
     private final OptionItemRepository optionItemRepository;
+    private final MenuOptionCatalogCache menuOptionCatalogCache;
+    private final OrderMenuOptionRepository orderMenuOptionRepository;
+    private final StoreOwnershipCache storeOwnershipCache;
 
     public OptionCategoryResponse saveMenuOption(Long userId, Long menuId, OptionCategoryRequest request) {
         validateMenuOwner(userId, menuId);
@@ -29,6 +45,7 @@ public class MenuOptionOwnerService {
 
         OptionCategory optionCategory = OptionCategoryConverter.toEntity(request, menu);
         optionCategoryRepository.save(optionCategory);
+        menuOptionCatalogCache.evict(menuId);
 
         return OptionCategoryConverter.toResponse(optionCategory);
     }
@@ -36,16 +53,32 @@ public class MenuOptionOwnerService {
     public OptionCategoryResponse updateMenuOption(Long userId, Long menuId, Long optionCategoryId, OptionCategoryRequest request) {
         validateMenuOwner(userId, menuId);
 
-        // 기존 OptionItem 삭제
         OptionCategory optionCategory = optionCategoryRepository.findByIdAndMenuIdOrThrow(optionCategoryId, menuId);
         optionCategory.update(request.getOptionCategoryName(), request.getIsRequired(), request.getIsMultiple(), request.getMaxOptions());
-        optionCategory.clearOptionItems();
 
-        // 새로운 OptionItem 저장
-        request.getOptionItems()
-                .stream().map(OptionCategoryConverter::toEntity)
-                .forEach(optionCategory::addOptionItem);
-        optionItemRepository.saveAll(optionCategory.getOptionItems());
+        // 요청 항목을 기존 OptionItem 과 id(없으면 이름)로 맞춰서 바뀐 행만 수정, 새 항목만 추가, 빠진 항목만 삭제
+        // 기존 항목의 id 가 유지되므로 지난 주문의 옵션 참조와 옵션 항목 id 기반 캐시가 깨지지 않음
+        OptionItemMatcher matcher = new OptionItemMatcher(optionCategory.getOptionItems());
+        List<OptionItem> newOptionItems = new ArrayList<>();
+        for (OptionItemRequest itemRequest : request.getOptionItems()) {
+            OptionItem optionItem = matcher.match(itemRequest);
+            if (optionItem == null) {
+                newOptionItems.add(OptionCategoryConverter.toEntity(itemRequest));
+            } else {
+                optionItem.update(itemRequest.getOptionItemName(), itemRequest.getAdditionalPrice());
+            }
+        }
+
+        List<OptionItem> removedOptionItems = matcher.getUnmatched();
+        if (!removedOptionItems.isEmpty()) {
+            // orphanRemoval 로 삭제되기 전에 지난 주문의 참조부터 끊음
+            orderMenuOptionRepository.detachOptionItems(removedOptionItems.stream().map(OptionItem::getId).toList());
+            optionCategory.removeOptionItems(removedOptionItems);
+        }
+
+        newOptionItems.forEach(optionCategory::addOptionItem);
+        optionItemRepository.saveAll(newOptionItems);
+        menuOptionCatalogCache.evict(menuId);
 
         return OptionCategoryConverter.toResponse(optionCategory);
     }
@@ -55,12 +88,52 @@ public class MenuOptionOwnerService {
 
         OptionCategory optionCategory = optionCategoryRepository.findByIdAndMenuIdOrThrow(optionCategoryId, menuId);
         optionCategoryRepository.delete(optionCategory);
+        menuOptionCatalogCache.evict(menuId);
     }
 
     private void validateMenuOwner(Long userId, Long menuId) {
-        Long ownerId = menuRepository.findOwnerIdByMenuIdOrThrow(menuId);
+        Long ownerId = storeOwnershipCache.getOwnerIdByMenuId(menuId);
         if (!ownerId.equals(userId)) {
             throw new CustomException(ErrorCode.NOT_STORE_OWNER);
         }
     }
+
+    // 한 옵션 카테고리의 기존 항목을 id, 이름으로 찾고 한 번 맞춰진 항목은 다시 쓰지 않음
+    private static class OptionItemMatcher {
+        private final Map<Long, OptionItem> byId = new LinkedHashMap<>();
+        private final Map<String, OptionItem> byName = new HashMap<>();
+        private final Set<Long> matchedIds = new HashSet<>();
+
+        private OptionItemMatcher(List<OptionItem> optionItems) {
+            for (OptionItem optionItem : optionItems) {
+                byId.put(optionItem.getId(), optionItem);
+                byName.putIfAbsent(optionItem.getName(), optionItem);
+            }
+        }
+
+        private OptionItem match(OptionItemRequest request) {
+            if (request.getOptionItemId() != null) {
+                OptionItem optionItem = byId.get(request.getOptionItemId());
+                if (optionItem == null) { // 다른 카테고리의 항목이거나 없는 항목
+                    throw new CustomException(ErrorCode.OPTION_NOT_FOUND);
+                }
+                if (!matchedIds.add(optionItem.getId())) {
+                    throw new CustomException(ErrorCode.OPTION_ITEM_DUPLICATE);
+                }
+                return optionItem;
+            }
+
+            OptionItem optionItem = byName.get(request.getOptionItemName());
+            if (optionItem == null || !matchedIds.add(optionItem.getId())) {
+                return null;
+            }
+            return optionItem;
+        }
+
+        private List<OptionItem> getUnmatched() {
+            return byId.values().stream()
+                    .filter(optionItem -> !matchedIds.contains(optionItem.getId()))
+                    .toList();
+        }
+    }
 }
@@ -1,26 +1,33 @@
 package com.example.deliveryapp.domain.menu.service;
 
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
 import com.example.deliveryapp.domain.menu.converter.OptionCategoryConverter;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog.OptionCategorySnapshot;
 import com.example.deliveryapp.domain.menu.dto.response.OptionCategoryPageResponse;
-import com.example.deliveryapp.domain.menu.entity.OptionCategory;
-import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class MenuOptionService {
 
-    private final OptionCategoryRepository optionCategoryRepository;
+    private final MenuOptionCatalogCache menuOptionCatalogCache;
 
-    @Transactional(readOnly = true)
     public OptionCategoryPageResponse getMenuOptions(Long menuId, Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<OptionCategory> optionCategoryPage = optionCategoryRepository.findAllByMenuId(menuId, pageable);
+        List<OptionCategorySnapshot> optionCategories = menuOptionCatalogCache.get(menuId).getOptionCategories();
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), optionCategories.size());
+        int toIndex = Math.min(fromIndex + size, optionCategories.size());
+        Page<OptionCategorySnapshot> optionCategoryPage = new PageImpl<>(
+                optionCategories.subList(fromIndex, toIndex), pageable, optionCategories.size());
+
         return OptionCategoryConverter.toResponse(optionCategoryPage);
     }
 }
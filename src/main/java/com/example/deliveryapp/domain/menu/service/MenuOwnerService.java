@@ -1,13 +1,18 @@
 package com.example.deliveryapp.domain.menu.service;
 
 import com.example.deliveryapp.client.S3Service;
+import com.example.deliveryapp.client.SignedUrlCache;
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
 import com.example.deliveryapp.domain.menu.dto.request.MenuRequest;
 import com.example.deliveryapp.domain.menu.dto.response.MenuResponse;
 import com.example.deliveryapp.domain.menu.dto.response.MenuResponseWithImageUrl;
 import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.enums.MenuImageVariant;
+import com.example.deliveryapp.domain.menu.image.MenuImageProcessor;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
 import com.example.deliveryapp.domain.store.entity.Store;
 import com.example.deliveryapp.domain.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +34,10 @@ public class MenuOwnerService {
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
     private final S3Service s3Service;
+    private final SignedUrlCache signedUrlCache;
+    private final MenuOptionCatalogCache menuOptionCatalogCache;
+    private final StoreOwnershipCache storeOwnershipCache;
+    private final MenuImageProcessor menuImageProcessor;
 
     public MenuResponse saveMenu(Long userId, Long storeId, MenuRequest request) {
         Store store = storeRepository.findActiveStoreByIdOrThrow(storeId);
@@ -52,7 +61,7 @@ public class MenuOwnerService {
     }
 
     public MenuResponse updateMenu(Long userId, Long storeId, Long menuId, MenuRequest request) {
-        Long storeOwnerId = storeRepository.findOwnerIdByStoreIdOrThrow(storeId);
+        Long storeOwnerId = storeOwnershipCache.getOwnerId(storeId);
         validateStoreOwner(storeOwnerId, userId);
 
         Menu menu = menuRepository.findActiveMenuByIdOrThrow(menuId);
@@ -69,17 +78,19 @@ public class MenuOwnerService {
     }
 
     public void deleteMenu(Long userId, Long storeId, Long menuId) {
-        Long storeOwnerId = storeRepository.findOwnerIdByStoreIdOrThrow(storeId);
+        Long storeOwnerId = storeOwnershipCache.getOwnerId(storeId);
         validateStoreOwner(storeOwnerId, userId);
 
         Menu menu = menuRepository.findActiveMenuByIdOrThrow(menuId);
         validateMenuBelongsToStore(menu.getStore().getId(), storeId);
 
         menu.setDeletedAt(LocalDateTime.now());
+        menuOptionCatalogCache.evict(menuId);
+        storeOwnershipCache.evictMenu(menuId);
     }
 
     public MenuResponseWithImageUrl uploadMenuImage(Long userId, Long storeId, Long menuId, MultipartFile file) {
-        Long storeOwnerId = storeRepository.findOwnerIdByStoreIdOrThrow(storeId);
+        Long storeOwnerId = storeOwnershipCache.getOwnerId(storeId);
         validateStoreOwner(storeOwnerId, userId);
 
         Menu menu = menuRepository.findActiveMenuByIdOrThrow(menuId);
@@ -87,34 +98,47 @@ public class MenuOwnerService {
 
         // 기존 이미지 삭제
         if (menu.getImageUrl() != null) {
-            s3Service.deleteImage(MENU, menu.getImageUrl());
+            deleteImage(menu.getImageUrl());
         }
 
         String imageUrl = s3Service.uploadImage(MENU, file);
         menu.setImageUrl(imageUrl);
+        // 크기별 이미지는 커밋 후 별도 풀에서 생성, 응답에는 원본 URL 만 포함
+        menuImageProcessor.submitAfterCommit(menu.getId(), imageUrl, file);
 
         return MenuResponseWithImageUrl.builder()
                 .menuId(menu.getId())
                 .menuName(menu.getName())
                 .price(menu.getPrice())
                 .description(menu.getDescription())
-                .imageUrl(s3Service.createSignedUrl(MENU, menu.getImageUrl()))
+                .imageUrl(signedUrlCache.get(MENU, menu.getImageUrl()))
                 .build();
     }
 
     public void deleteMenuImage(Long userId, Long storeId, Long menuId) {
-        Long storeOwnerId = storeRepository.findOwnerIdByStoreIdOrThrow(storeId);
+        Long storeOwnerId = storeOwnershipCache.getOwnerId(storeId);
         validateStoreOwner(storeOwnerId, userId);
 
         Menu menu = menuRepository.findActiveMenuByIdOrThrow(menuId);
         validateMenuBelongsToStore(menu.getStore().getId(), storeId);
 
         if (menu.getImageUrl() != null) {
-            s3Service.deleteImage(MENU, menu.getImageUrl());
+            deleteImage(menu.getImageUrl());
             menu.setImageUrl(null);
         }
     }
 
+    // 원본과 크기별 이미지를 함께 삭제 (아직 만들어지지 않은 크기별 이미지도 삭제 요청은 무해함)
+    private void deleteImage(String fileName) {
+        s3Service.deleteImage(MENU, fileName);
+        signedUrlCache.evict(MENU, fileName);
+        for (MenuImageVariant variant : MenuImageVariant.values()) {
+            String variantFileName = variant.fileName(fileName);
+            s3Service.deleteImage(MENU, variantFileName);
+            signedUrlCache.evict(MENU, variantFileName);
+        }
+    }
+
     private static void validateStoreOwner(Long storeOwnerId, Long currentUserId) {
         if (!storeOwnerId.equals(currentUserId)) {
             throw new CustomException(ErrorCode.NOT_STORE_OWNER);
@@ -1,10 +1,12 @@
 package com.example.deliveryapp.domain.menu.service;
 
-import com.example.deliveryapp.client.S3Service;
+import com.example.deliveryapp.client.SignedUrlCache;
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.menu.dto.response.MenuPageResponse;
 import com.example.deliveryapp.domain.menu.dto.response.MenuResponseWithImageUrl;
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.enums.MenuImageVariant;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
 import com.example.deliveryapp.domain.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +27,7 @@ public class MenuService {
 
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
-    private final S3Service s3Service;
+    private final SignedUrlCache signedUrlCache;
 
     @Transactional(readOnly = true)
     public MenuPageResponse getMenus(Long storeId, Integer page, Integer size) {
@@ -41,6 +43,9 @@ public class MenuService {
                         .price(menu.getPrice())
                         .description(menu.getDescription())
                         .imageUrl(getImageUrl(menu.getImageUrl()))
+                        .thumbnailImageUrl(getImageUrl(menu, MenuImageVariant.THUMBNAIL))
+                        .listImageUrl(getImageUrl(menu, MenuImageVariant.LIST))
+                        .detailImageUrl(getImageUrl(menu, MenuImageVariant.DETAIL))
                         .build());
 
         return new MenuPageResponse(menuPage);
@@ -51,6 +56,14 @@ public class MenuService {
             return null;
         }
 
-        return s3Service.createSignedUrl(MENU, originalImageUrl);
+        return signedUrlCache.get(MENU, originalImageUrl);
+    }
+
+    private String getImageUrl(Menu menu, MenuImageVariant variant) {
+        if (menu.getImageUrl() == null || !menu.isImageVariantsReady()) {
+            return null;
+        }
+
+        return signedUrlCache.get(MENU, variant.fileName(menu.getImageUrl()));
     }
 }
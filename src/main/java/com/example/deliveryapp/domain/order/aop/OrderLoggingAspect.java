@@ -1,16 +1,18 @@
 package com.example.deliveryapp.domain.order.aop;
 
+import com.example.deliveryapp.domain.order.audit.OrderAuditAction;
+import com.example.deliveryapp.domain.order.audit.OrderAuditEvent;
+import com.example.deliveryapp.domain.order.audit.OrderAuditWriter;
+import com.example.deliveryapp.domain.order.dto.OrderStateChange;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
-import com.example.deliveryapp.domain.order.entity.Order;
 import com.example.deliveryapp.domain.order.enums.OrderState;
-import com.example.deliveryapp.domain.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 
@@ -19,85 +21,54 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class OrderLoggingAspect {
 
-    private final OrderRepository orderRepository;
+    private final OrderAuditWriter orderAuditWriter;
 
-    @Pointcut("execution(* com.example.deliveryapp.domain.order.controller.OrderController.createOrder(..))")
-    public void createOrderMethod() {
+    @Pointcut("execution(* com.example.deliveryapp.domain.order.service.OrderService.createOrder(..)) && args(userId)")
+    public void createOrderMethod(Long userId) {
     }
 
-    @Pointcut("execution(* com.example.deliveryapp.domain.order.controller.OrderController.updateOrderState(..))")
-    public void updateOrderStateMethod() {
+    @Pointcut("execution(* com.example.deliveryapp.domain.order.service.OrderService.updateOrderState(..)) && args(userId, ..)")
+    public void updateOrderStateMethod(Long userId) {
     }
 
-    @Around("createOrderMethod()")
-    public Object logCreateOrderAction(ProceedingJoinPoint joinPoint) throws Throwable {
-        Object result = joinPoint.proceed();
-
-        if (result instanceof ResponseEntity<?> responseEntity) {
-            if (responseEntity.getBody() instanceof OrderResponse orderResponse) {
-                logOrderAction("createOrder(주문 생성)", orderResponse.getStoreId(), orderResponse.getOrderId());
-            } else {
-                System.out.println("주문 생성 로그 기록 실패: ResponseEntity의 body가 OrderResponse가 아님");
-            }
-        } else {
-            System.out.println("주문 생성 로그 기록 실패: 반환값이 ResponseEntity가 아님");
-        }
-
-        return result;
+    @AfterReturning(pointcut = "createOrderMethod(userId)", returning = "orderResponse", argNames = "userId,orderResponse")
+    public void logCreateOrderAction(Long userId, OrderResponse orderResponse) {
+        append(new OrderAuditEvent(
+                OrderAuditAction.CREATE,
+                orderResponse.getOrderId(),
+                orderResponse.getStoreId(),
+                userId,
+                OrderState.CART,
+                OrderState.PENDING,
+                LocalDateTime.now()
+        ));
     }
 
-    @Around("updateOrderStateMethod()")
-    public Object logUpdateOrderStateAction(ProceedingJoinPoint joinPoint) throws Throwable {
-        Object[] args = joinPoint.getArgs();
-        Long orderId = null;
-        OrderState prevState = null;
-
-        for (Object arg : args) {
-            if (arg instanceof Long) {
-                orderId = (Long) arg;
-                break;
-            }
-        }
-
-        if (orderId != null) {
-            Order order = orderRepository.findById(orderId).orElse(null);
-            if (order != null) {
-                prevState = order.getOrderState(); // 변경 전 상태 저장
-            }
-        }
-
-        Object result = joinPoint.proceed();
-
-        // 변경 후 상태
-        Order order = orderRepository.findById(orderId).orElse(null);
-        if (order != null) {
-            logOrderStateChange(orderId, order.getStore().getId(), prevState, order.getOrderState());
-        }
-
-        return result;
+    // 변경 전후 상태는 서비스 반환값에서 가져옴 (주문 재조회 없음)
+    @AfterReturning(pointcut = "updateOrderStateMethod(userId)", returning = "stateChange", argNames = "userId,stateChange")
+    public void logUpdateOrderStateAction(Long userId, OrderStateChange stateChange) {
+        append(new OrderAuditEvent(
+                OrderAuditAction.UPDATE_STATE,
+                stateChange.getOrderId(),
+                stateChange.getStoreId(),
+                userId,
+                stateChange.getPrevState(),
+                stateChange.getNewState(),
+                LocalDateTime.now()
+        ));
     }
 
-    private void logOrderAction(String action, Long storeId, Long orderId) {
-        LocalDateTime requestTime = LocalDateTime.now();
-
-        System.out.println("요청 시각: " + requestTime);
-        if (storeId != null) {
-            System.out.println("가게 ID: " + storeId);
+    // 트랜잭션 안에서 호출된 경우 커밋된 변경만 기록
+    private void append(OrderAuditEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    orderAuditWriter.append(event);
+                }
+            });
+            return;
         }
-        if (orderId != null) {
-            System.out.println("주문 ID: " + orderId);
-        }
-        System.out.println(action + " 메서드가 실행되었습니다.");
-    }
-
-    private void logOrderStateChange(Long orderId, Long storeId, OrderState prevState, OrderState newState) {
-        LocalDateTime requestTime = LocalDateTime.now();
-
-        System.out.println("요청 시각: " + requestTime);
-        System.out.println("주문 ID: " + orderId);
-        System.out.println("가게 ID: " + storeId);
-        System.out.println("변경 전 상태: " + prevState);
-        System.out.println("변경 후 상태: " + newState);
-        System.out.println("updateOrderState(주문 상태 변경) 메서드가 실행되었습니다.");
+        orderAuditWriter.append(event);
     }
 }
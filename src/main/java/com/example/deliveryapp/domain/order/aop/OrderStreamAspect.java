@@ -0,0 +1,48 @@
+package com.example.deliveryapp.domain.order.aop;
+
+import com.example.deliveryapp.domain.order.dto.OrderStateChange;
+import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
+import com.example.deliveryapp.domain.order.stream.OrderEvent;
+import com.example.deliveryapp.domain.order.stream.OrderEventHub;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 주문 생성/상태 변경이 커밋되면 가게 구독자에게 변경분만 전송
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class OrderStreamAspect {
+
+    private final OrderEventHub orderEventHub;
+
+    @AfterReturning(
+            pointcut = "execution(* com.example.deliveryapp.domain.order.service.OrderService.createOrder(..))",
+            returning = "orderResponse")
+    public void publishCreatedOrder(OrderResponse orderResponse) {
+        afterCommit(() -> orderEventHub.publish(orderResponse.getStoreId(), OrderEvent.ORDER_CREATED, orderResponse));
+    }
+
+    @AfterReturning(
+            pointcut = "execution(* com.example.deliveryapp.domain.order.service.OrderService.updateOrderState(..))",
+            returning = "stateChange")
+    public void publishStateChange(OrderStateChange stateChange) {
+        afterCommit(() -> orderEventHub.publish(stateChange.getStoreId(), OrderEvent.ORDER_STATE_CHANGED, stateChange));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
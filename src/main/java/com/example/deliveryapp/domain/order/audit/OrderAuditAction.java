@@ -0,0 +1,5 @@
+package com.example.deliveryapp.domain.order.audit;
+
+public enum OrderAuditAction {
+    CREATE, UPDATE_STATE
+}
@@ -0,0 +1,20 @@
+package com.example.deliveryapp.domain.order.audit;
+
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class OrderAuditEvent {
+
+    private final OrderAuditAction action;
+    private final Long orderId;
+    private final Long storeId;
+    private final Long userId;
+    private final OrderState prevState;
+    private final OrderState newState;
+    private final LocalDateTime occurredAt;
+}
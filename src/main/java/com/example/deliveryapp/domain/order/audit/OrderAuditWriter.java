@@ -0,0 +1,143 @@
+package com.example.deliveryapp.domain.order.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 요청 스레드는 큐에 넣기만 하고, 백그라운드 스레드 하나가 모아서 order_audit 에 배치 insert
+@Slf4j
+@Component
+public class OrderAuditWriter {
+
+    private static final String INSERT_SQL = "insert into order_audit "
+            + "(action, order_id, store_id, user_id, prev_state, new_state, occurred_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    // 락 없는 큐 + 크기 카운터로 용량 제한, 가득 차면 요청 스레드를 막지 않고 버림
+    private final Queue<OrderAuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final Counter appendedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private ScheduledExecutorService executor;
+
+    public OrderAuditWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${order.audit.capacity:10000}") int capacity,
+            @Value("${order.audit.batch-size:500}") int batchSize,
+            @Value("${order.audit.flush-interval-ms:200}") long flushIntervalMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        this.appendedCounter = meterRegistry.counter("order.audit.events", "result", "appended");
+        this.droppedCounter = meterRegistry.counter("order.audit.events", "result", "dropped");
+        this.writtenCounter = meterRegistry.counter("order.audit.events", "result", "written");
+        this.failedCounter = meterRegistry.counter("order.audit.events", "result", "failed");
+        meterRegistry.gauge("order.audit.queue.size", size);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 종료 시 남은 이벤트까지 기록
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(flushIntervalMillis * 5, TimeUnit.MILLISECONDS);
+        flush();
+    }
+
+    public boolean append(OrderAuditEvent event) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            droppedCounter.increment();
+            return false;
+        }
+        queue.offer(event);
+        appendedCounter.increment();
+        return true;
+    }
+
+    public int getQueueSize() {
+        return size.get();
+    }
+
+    public long getDroppedCount() {
+        return (long) droppedCounter.count();
+    }
+
+    // 큐가 빌 때까지 batchSize 단위로 기록, 예외가 나도 스케줄이 멈추지 않도록 여기서 처리
+    int flush() {
+        int written = 0;
+        List<OrderAuditEvent> batch;
+        while (!(batch = poll()).isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, toArgs(batch));
+                writtenCounter.increment(batch.size());
+                written += batch.size();
+            } catch (RuntimeException e) {
+                failedCounter.increment(batch.size());
+                log.warn("[주문 감사 로그] 기록 실패 count={}", batch.size(), e);
+            }
+        }
+        return written;
+    }
+
+    private List<OrderAuditEvent> poll() {
+        List<OrderAuditEvent> batch = new ArrayList<>(batchSize);
+        OrderAuditEvent event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private static List<Object[]> toArgs(List<OrderAuditEvent> batch) {
+        return batch.stream()
+                .map(event -> new Object[]{
+                        event.getAction().name(),
+                        event.getOrderId(),
+                        event.getStoreId(),
+                        event.getUserId(),
+                        event.getPrevState() == null ? null : event.getPrevState().name(),
+                        event.getNewState() == null ? null : event.getNewState().name(),
+                        Timestamp.valueOf(event.getOccurredAt())
+                })
+                .toList();
+    }
+}
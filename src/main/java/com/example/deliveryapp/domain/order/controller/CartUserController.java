@@ -3,6 +3,7 @@ package com.example.deliveryapp.domain.order.controller;
 import com.example.deliveryapp.domain.common.annotation.Auth;
 import com.example.deliveryapp.domain.common.dto.AuthUser;
 import com.example.deliveryapp.domain.order.dto.request.CartAddRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartBulkAddRequest;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.service.CartService;
 import jakarta.validation.Valid;
@@ -29,6 +30,15 @@ public class CartUserController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    //장바구니 여러 메뉴 한 번에 추가
+    @PostMapping("/carts/bulk")
+    public List<OrderResponse.OrderMenuResponse> addCartItems(
+            @Auth AuthUser authUser,
+            @RequestBody @Valid CartBulkAddRequest cartBulkAddRequest
+    ) {
+        return cartService.addCartItems(authUser.getId(), cartBulkAddRequest);
+    }
+
     //장바구니 조회
     @GetMapping("/carts")
     public List<OrderResponse.OrderMenuResponse> getCart(@Auth AuthUser authUser) {
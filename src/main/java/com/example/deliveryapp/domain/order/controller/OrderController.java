@@ -3,13 +3,19 @@ package com.example.deliveryapp.domain.order.controller;
 import com.example.deliveryapp.domain.common.annotation.Auth;
 import com.example.deliveryapp.domain.common.dto.AuthUser;
 import com.example.deliveryapp.domain.order.dto.request.OrderStateUpdateRequest;
-import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
+import com.example.deliveryapp.domain.order.dto.response.OrderCursorResponse;
+import com.example.deliveryapp.domain.order.enums.OrderState;
 import com.example.deliveryapp.domain.order.service.OrderService;
+import com.example.deliveryapp.domain.order.stream.OrderEventHub;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,11 +23,30 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String DEFAULT_SIZE = "10";
+    private static final long MAX_SIZE = 100;
+
     private final OrderService orderService;
+    private final OrderEventHub orderEventHub;
 
     @GetMapping("/stores/{storeId}/orders")
-    public List<OrderResponse> getStoreOrders(@Auth AuthUser authUser, @PathVariable Long storeId) {
-        return orderService.getOrdersByStoreId(authUser.getId(), storeId);
+    public OrderCursorResponse getStoreOrders(
+            @Auth AuthUser authUser,
+            @PathVariable Long storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) List<OrderState> orderStates,
+            @RequestParam(defaultValue = DEFAULT_SIZE) @Min(1) @Max(MAX_SIZE) Integer size) {
+        return orderService.getOrdersByStoreId(authUser.getId(), storeId, cursor, orderStates, size);
+    }
+
+    // 목록 폴링 대신 새 주문/상태 변경만 받는 스트림, 재연결 시 Last-Event-ID 이후 이벤트부터 재전송
+    @GetMapping(value = "/stores/{storeId}/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStoreOrders(
+            @Auth AuthUser authUser,
+            @PathVariable Long storeId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        orderService.checkStoreOwner(authUser.getId(), storeId);
+        return orderEventHub.subscribe(storeId, lastEventId);
     }
 
     @PatchMapping("/orders/{orderId}")
@@ -2,20 +2,25 @@ package com.example.deliveryapp.domain.order.controller;
 
 import com.example.deliveryapp.domain.common.annotation.Auth;
 import com.example.deliveryapp.domain.common.dto.AuthUser;
+import com.example.deliveryapp.domain.order.dto.response.OrderPageResponse;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.service.OrderService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 public class OrderUserController {
 
+    private static final String DEFAULT_SIZE = "10";
+    private static final long MAX_SIZE = 100;
+
     private final OrderService orderService;
 
     // 전체 주문
@@ -25,7 +30,10 @@ public class OrderUserController {
     }
 
     @GetMapping("/orders")
-    public List<OrderResponse> getUserOrders(@Auth AuthUser authUser) {
-        return orderService.getOrdersByUserId(authUser.getId());
+    public OrderPageResponse getUserOrders(
+            @Auth AuthUser authUser,
+            @RequestParam(defaultValue = "1") @Min(1) Integer page,
+            @RequestParam(defaultValue = DEFAULT_SIZE) @Min(1) @Max(MAX_SIZE) Integer size) {
+        return orderService.getOrdersByUserId(authUser.getId(), page, size);
     }
 }
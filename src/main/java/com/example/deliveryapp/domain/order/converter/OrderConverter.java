@@ -19,7 +19,7 @@ public class OrderConverter {
                 order.getId(),
                 order.getStore().getId(),
                 order.getOrderState(),
-                order.calculateTotalPrice(),
+                order.getTotalPrice(),
                 orderMenuResponses
         );
     }
@@ -34,6 +34,7 @@ public class OrderConverter {
                 orderMenu.getMenu().getId(),
                 orderMenu.getName(),
                 orderMenu.getPrice(),
+                orderMenu.getQuantity(),
                 orderMenuOptionResponses
         );
     }
@@ -41,7 +42,7 @@ public class OrderConverter {
     public static OrderMenuOptionResponse toResponse(OrderMenuOption orderMenuOption) {
         return new OrderMenuOptionResponse(
                 orderMenuOption.getId(),
-                orderMenuOption.getOptionItem().getId(),
+                orderMenuOption.getOptionItemId(),
                 orderMenuOption.getName(),
                 orderMenuOption.getAdditionalPrice()
         );
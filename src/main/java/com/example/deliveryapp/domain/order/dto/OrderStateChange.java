@@ -0,0 +1,16 @@
+package com.example.deliveryapp.domain.order.dto;
+
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상태 변경 결과 (감사 로그가 주문을 다시 조회하지 않도록 서비스에서 그대로 반환)
+@Getter
+@AllArgsConstructor
+public class OrderStateChange {
+
+    private final Long orderId;
+    private final Long storeId;
+    private final OrderState prevState;
+    private final OrderState newState;
+}
@@ -0,0 +1,16 @@
+package com.example.deliveryapp.domain.order.dto;
+
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상태 전이 실패 원인 확인용 (주문 엔티티 전체를 읽지 않음)
+@Getter
+@AllArgsConstructor
+public class OrderTransitionTarget {
+
+    private final Long orderId;
+    private final OrderState orderState;
+    private final Long userId;
+    private final Long storeOwnerId;
+}
@@ -0,0 +1,38 @@
+package com.example.deliveryapp.domain.order.dto.request;
+
+import com.example.deliveryapp.domain.order.dto.request.CartAddRequest.OptionRequest;
+import com.example.deliveryapp.domain.order.entity.OrderMenu;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CartBulkAddRequest {
+    @NotEmpty
+    @Size(max = 50)
+    @Valid
+    private final List<CartLineRequest> items;
+
+    @Getter
+    @AllArgsConstructor
+    public static class CartLineRequest {
+        @NotNull
+        private final Long menuId;
+
+        @NotNull
+        @Min(1)
+        @Max(OrderMenu.MAX_QUANTITY)
+        private final Integer quantity;
+
+        @Valid
+        private final List<OptionRequest> options;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.deliveryapp.domain.order.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OrderCursorResponse {
+    private final List<OrderResponse> content;
+    private final String nextCursor;
+    private final Boolean hasNext;
+    private final Integer size;
+}
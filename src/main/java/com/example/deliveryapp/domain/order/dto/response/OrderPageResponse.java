@@ -0,0 +1,23 @@
+package com.example.deliveryapp.domain.order.dto.response;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Getter
+public class OrderPageResponse {
+    private final List<OrderResponse> content;
+    private final Integer currentPage;
+    private final Integer totalPages;
+    private final Long totalElements;
+    private final Integer size;
+
+    public OrderPageResponse(Page<OrderResponse> page) {
+        this.content = page.getContent();
+        this.currentPage = page.getNumber() + 1;
+        this.totalPages = page.getTotalPages();
+        this.totalElements = page.getTotalElements();
+        this.size = page.getSize();
+    }
+}
@@ -22,6 +22,7 @@ public class OrderResponse {
         private final Long menuId;
         private final String menuName;
         private final Long price;
+        private final Integer quantity;
         private final List<OrderMenuOptionResponse> orderMenuOptions;
 
         @Getter
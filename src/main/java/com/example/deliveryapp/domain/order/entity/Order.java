@@ -6,18 +6,24 @@ import com.example.deliveryapp.domain.store.entity.Store;
 import com.example.deliveryapp.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_state_updated_at", columnList = "order_state, updated_at"),
+        @Index(name = "idx_orders_store_state_created_at", columnList = "store_id, order_state, created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,6 +40,13 @@ public class Order extends Timestamped {
     @Column(nullable = false)
     private OrderState orderState;
 
+    // 주문 메뉴 합계, 주문 메뉴를 추가/삭제할 때 함께 갱신해 목록 조회 시 자식 행을 읽지 않음
+    // 컬럼 추가 전 기존 행은 0 으로 채워지므로 마이그레이션 또는 OrderTotalPriceChecker.backfill 로 한 번 다시 계산
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long totalPrice = 0L;
+
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderMenu> orderMenus = new ArrayList<>();
 
@@ -47,20 +60,29 @@ public class Order extends Timestamped {
     public void addOrderMenu(OrderMenu orderMenu) {
         orderMenus.add(orderMenu);
         orderMenu.setOrder(this);
+        totalPrice += orderMenu.getTotalPrice();
     }
 
     public void clearOrderMenus() {
         orderMenus.clear();
+        totalPrice = 0L;
     }
 
+    // 정합성 검사용, 주문 메뉴와 옵션 전체를 순회해 다시 계산
     public long calculateTotalPrice() {
         return orderMenus.stream()
-                .mapToLong(OrderMenu::getTotalPrice)
+                .mapToLong(OrderMenu::calculateTotalPrice)
                 .sum();
     }
 
     public void removeOrderMenu(OrderMenu orderMenu) {
-        orderMenus.remove(orderMenu);
+        if (orderMenus.remove(orderMenu)) {
+            totalPrice -= orderMenu.getTotalPrice();
+        }
         orderMenu.setOrder(null);  // 양방향으로 삭제
     }
+
+    void addTotalPrice(long price) {
+        totalPrice += price;
+    }
 }
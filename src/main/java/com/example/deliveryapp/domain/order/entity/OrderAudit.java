@@ -0,0 +1,44 @@
+package com.example.deliveryapp.domain.order.entity;
+
+import com.example.deliveryapp.domain.order.audit.OrderAuditAction;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 주문 감사 로그 테이블 (쓰기는 OrderAuditWriter 의 JDBC 배치 insert 로만 수행)
+@Entity
+@Getter
+@Table(name = "order_audit", indexes = {
+        @Index(name = "idx_order_audit_order_id", columnList = "order_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderAuditAction action;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    private Long storeId;
+
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private OrderState prevState;
+
+    @Enumerated(EnumType.STRING)
+    private OrderState newState;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -3,6 +3,8 @@ package com.example.deliveryapp.domain.order.entity;
 import com.example.deliveryapp.domain.menu.entity.Menu;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,8 +15,11 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderMenu {
 
+    public static final int MAX_QUANTITY = 99;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_menus_seq")
+    @SequenceGenerator(name = "order_menus_seq", sequenceName = "order_menus_seq", allocationSize = 50)
     private Long id;
 
     @Setter
@@ -32,24 +37,63 @@ public class OrderMenu {
     @Column(nullable = false)
     private Long price;
 
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // (메뉴 가격 + 옵션 추가 가격) * 수량, 옵션 추가/수량 변경 시 함께 갱신
+    // 컬럼 추가 전 기존 행은 0 으로 채워지므로 마이그레이션 또는 OrderTotalPriceChecker.backfill 로 한 번 다시 계산
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long totalPrice;
+
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "orderMenu", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderMenuOption> orderMenuOptions = new ArrayList<>();
 
     public OrderMenu(Menu menu) {
+        this(menu, 1);
+    }
+
+    public OrderMenu(Menu menu, int quantity) {
         this.menu = menu;
         this.name = menu.getName();
         this.price = menu.getPrice();
+        this.quantity = quantity;
+        this.totalPrice = menu.getPrice() * quantity;
     }
 
     public void addOrderMenuOption(OrderMenuOption orderMenuOption) {
         this.orderMenuOptions.add(orderMenuOption);
         orderMenuOption.setOrderMenu(this);
+
+        addTotalPrice(orderMenuOption.getAdditionalPrice() * quantity);
+    }
+
+    // 같은 메뉴, 같은 옵션을 다시 담으면 행을 늘리지 않고 수량만 증가
+    // 최대 수량과 단가 비교는 호출하는 쪽(CartService)에서 확인, 늘어난 수량은 기존 단가로 계산
+    public void increaseQuantity(int amount) {
+        long unitPrice = getUnitPrice();
+        this.quantity += amount;
+        addTotalPrice(unitPrice * amount);
     }
 
-    public Long getTotalPrice() {
+    public long getUnitPrice() {
+        return totalPrice / quantity;
+    }
+
+    // 정합성 검사용, 옵션 전체를 순회해 다시 계산
+    public long calculateTotalPrice() {
         long additionalPrice = this.orderMenuOptions.stream()
                 .mapToLong(OrderMenuOption::getAdditionalPrice)
                 .sum();
-        return additionalPrice + price;
+        return (additionalPrice + price) * quantity;
+    }
+
+    private void addTotalPrice(long amount) {
+        this.totalPrice += amount;
+        if (order != null) { // 이미 주문에 담긴 메뉴라면 주문 합계도 갱신
+            order.addTotalPrice(amount);
+        }
     }
 }
@@ -13,7 +13,9 @@ import lombok.Setter;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderMenuOption {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_menu_options_seq")
+    @SequenceGenerator(name = "order_menu_options_seq", sequenceName = "order_menu_options_seq", allocationSize = 50)
     private Long id;
 
     @Setter
@@ -21,6 +23,7 @@ public class OrderMenuOption {
     @JoinColumn(name = "order_menu_id", nullable = false)
     private OrderMenu orderMenu;
 
+    // 옵션 항목이 삭제되면 null, 이름/가격은 아래 스냅샷을 사용
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "option_item_id")
     private OptionItem optionItem;
@@ -36,4 +39,14 @@ public class OrderMenuOption {
         this.name = optionItem.getName();
         this.additionalPrice = optionItem.getAdditionalPrice();
     }
+
+    public OrderMenuOption(OptionItem optionItem, String name, Long additionalPrice) {
+        this.optionItem = optionItem;
+        this.name = name;
+        this.additionalPrice = additionalPrice;
+    }
+
+    public Long getOptionItemId() {
+        return optionItem == null ? null : optionItem.getId();
+    }
 }
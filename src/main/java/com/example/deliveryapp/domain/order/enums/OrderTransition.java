@@ -0,0 +1,31 @@
+package com.example.deliveryapp.domain.order.enums;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+// 주문 상태 전이 규칙 (허용되는 이전 상태, 전이 주체, 실패 시 에러)
+@Getter
+@RequiredArgsConstructor
+public enum OrderTransition {
+    CANCEL(OrderState.PENDING, OrderState.CANCELED, true, ErrorCode.ORDER_CANNOT_BE_CANCELED),
+    ACCEPT(OrderState.PENDING, OrderState.ACCEPTED, false, ErrorCode.ORDER_CANNOT_BE_ACCEPTED),
+    REJECT(OrderState.PENDING, OrderState.REJECTED, false, ErrorCode.ORDER_CANNOT_BE_REJECTED),
+    START_DELIVERY(OrderState.ACCEPTED, OrderState.DELIVERY, false, ErrorCode.ORDER_CANNOT_BE_DELIVERY),
+    COMPLETE_DELIVERY(OrderState.DELIVERY, OrderState.COMPLETED, false, ErrorCode.ORDER_CANNOT_BE_COMPLETED);
+
+    private final OrderState fromState;
+    private final OrderState toState;
+    private final boolean byCustomer; // true 면 주문한 고객, false 면 가게 사장님만 가능
+    private final ErrorCode errorCode;
+
+    public static OrderTransition to(OrderState toState) {
+        return Arrays.stream(values())
+                .filter(transition -> transition.toState == toState)
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.deliveryapp.domain.order.repository;
+
+import com.example.deliveryapp.domain.order.entity.OrderMenuOption;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OrderMenuOptionRepository extends JpaRepository<OrderMenuOption, Long> {
+
+    @Modifying
+    @Query("DELETE FROM OrderMenuOption omo " +
+            "WHERE omo.orderMenu.id IN (SELECT om.id FROM OrderMenu om WHERE om.order.id IN :orderIds)")
+    int deleteAllByOrderIds(@Param("orderIds") List<Long> orderIds);
+
+    // 옵션 항목이 삭제되어도 지난 주문의 이름/가격 스냅샷은 남기고 참조만 끊음
+    @Modifying
+    @Query("UPDATE OrderMenuOption omo SET omo.optionItem = null WHERE omo.optionItem.id IN :optionItemIds")
+    int detachOptionItems(@Param("optionItemIds") List<Long> optionItemIds);
+}
@@ -1,9 +1,40 @@
 package com.example.deliveryapp.domain.order.repository;
 
 import com.example.deliveryapp.domain.order.entity.OrderMenu;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface OrderMenuRepository extends JpaRepository<OrderMenu, Long> {
 
-    OrderMenu findByOrderId(Long orderId);
+    Optional<OrderMenu> findFirstByOrderIdOrderByIdAsc(Long orderId);
+
+    @Modifying
+    @Query("DELETE FROM OrderMenu om WHERE om.order.id IN :orderIds")
+    int deleteAllByOrderIds(@Param("orderIds") List<Long> orderIds);
+
+    // 저장된 합계와 (메뉴 가격 + 옵션 합계) * 수량이 다른 주문 메뉴 (id 기준 keyset 페이징)
+    @Query("SELECT om.id FROM OrderMenu om " +
+            "WHERE om.id > :lastId AND om.totalPrice <> (om.price + " +
+            "(SELECT COALESCE(SUM(omo.additionalPrice), 0) FROM OrderMenuOption omo WHERE omo.orderMenu = om)) * om.quantity " +
+            "ORDER BY om.id")
+    List<Long> findTotalPriceMismatchIds(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 합계가 아직 채워지지 않은 주문 메뉴 (id 기준 keyset 페이징), 가격과 옵션 추가 가격이 모두 0 인 메뉴는 제외
+    @Query("SELECT om.id FROM OrderMenu om WHERE om.id > :lastId AND om.totalPrice = 0 " +
+            "AND (om.price > 0 OR EXISTS (SELECT 1 FROM OrderMenuOption omo " +
+            "WHERE omo.orderMenu = om AND omo.additionalPrice > 0)) " +
+            "ORDER BY om.id")
+    List<Long> findZeroTotalPriceIds(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OrderMenu om SET om.totalPrice = (om.price + " +
+            "(SELECT COALESCE(SUM(omo.additionalPrice), 0) FROM OrderMenuOption omo WHERE omo.orderMenu = om)) * om.quantity " +
+            "WHERE om.id IN :orderMenuIds")
+    int recalculateTotalPriceByIds(@Param("orderMenuIds") List<Long> orderMenuIds);
 }
@@ -1,17 +1,102 @@
 package com.example.deliveryapp.domain.order.repository;
 
+import com.example.deliveryapp.domain.order.dto.OrderTransitionTarget;
 import com.example.deliveryapp.domain.order.entity.Order;
 import com.example.deliveryapp.domain.order.enums.OrderState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    List<Order> findOrdersByUserId(Long userId);
+    // 주문 메뉴/옵션은 @BatchSize 로 페이지 단위 일괄 조회
+    Page<Order> findOrdersByUserIdAndOrderStateNot(Long userId, OrderState orderState, Pageable pageable);
 
-    List<Order> findOrdersByStoreId(Long storeId);
+    // 상태 하나씩 (store_id, order_state, created_at, id) 인덱스를 순서대로 읽는 keyset 페이징
+    // 여러 상태를 IN 으로 묶으면 인덱스 순서로 읽지 못해 가게 전체 주문을 정렬하므로 상태별로 조회해 병합
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.store.id = :storeId AND o.orderState = :orderState " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findStoreOrdersFirstPage(
+            @Param("storeId") Long storeId,
+            @Param("orderState") OrderState orderState,
+            Pageable pageable
+    );
+
+    // 행 값 비교 (created_at, id) < (?, ?) 는 MySQL 에서 범위 조건으로 쓰이지 않을 수 있어 풀어서 작성
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.store.id = :storeId AND o.orderState = :orderState " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findStoreOrdersAfter(
+            @Param("storeId") Long storeId,
+            @Param("orderState") OrderState orderState,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 상태 전이는 조건부 UPDATE 한 번으로 처리하고, 영향받은 행 수(0 또는 1)로 성공 여부 판단
+    @Modifying
+    @Query("UPDATE Order o SET o.orderState = :toState, o.updatedAt = :updatedAt " +
+            "WHERE o.id = :orderId AND o.orderState = :fromState AND o.user.id = :userId")
+    int transitionByCustomer(
+            @Param("orderId") Long orderId,
+            @Param("userId") Long userId,
+            @Param("fromState") OrderState fromState,
+            @Param("toState") OrderState toState,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("UPDATE Order o SET o.orderState = :toState, o.updatedAt = :updatedAt " +
+            "WHERE o.id = :orderId AND o.orderState = :fromState " +
+            "AND o.store.id IN (SELECT s.id FROM Store s WHERE s.user.id = :ownerId)")
+    int transitionByStoreOwner(
+            @Param("orderId") Long orderId,
+            @Param("ownerId") Long ownerId,
+            @Param("fromState") OrderState fromState,
+            @Param("toState") OrderState toState,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    // 장바구니 비우기(bulk delete) 후 합계 초기화
+    @Modifying
+    @Query("UPDATE Order o SET o.totalPrice = 0 WHERE o.id IN :orderIds")
+    int resetTotalPriceByIds(@Param("orderIds") List<Long> orderIds);
+
+    // 저장된 합계와 주문 메뉴 합계가 다른 주문 (id 기준 keyset 페이징)
+    @Query("SELECT o.id FROM Order o " +
+            "WHERE o.id > :lastId AND o.totalPrice <> " +
+            "(SELECT COALESCE(SUM(om.totalPrice), 0) FROM OrderMenu om WHERE om.order = o) " +
+            "ORDER BY o.id")
+    List<Long> findTotalPriceMismatchIds(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 합계가 아직 채워지지 않은 주문 (id 기준 keyset 페이징), 비어 있는 장바구니처럼 합계가 실제로 0 인 주문은 제외
+    @Query("SELECT o.id FROM Order o WHERE o.id > :lastId AND o.totalPrice = 0 " +
+            "AND EXISTS (SELECT 1 FROM OrderMenu om WHERE om.order = o AND om.totalPrice > 0) " +
+            "ORDER BY o.id")
+    List<Long> findZeroTotalPriceIds(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.totalPrice = " +
+            "(SELECT COALESCE(SUM(om.totalPrice), 0) FROM OrderMenu om WHERE om.order = o) " +
+            "WHERE o.id IN :orderIds")
+    int recalculateTotalPriceByIds(@Param("orderIds") List<Long> orderIds);
+
+    @Query("SELECT new com.example.deliveryapp.domain.order.dto.OrderTransitionTarget(" +
+            "o.id, o.orderState, o.user.id, s.user.id) " +
+            "FROM Order o JOIN o.store s WHERE o.id = :orderId")
+    Optional<OrderTransitionTarget> findTransitionTargetById(@Param("orderId") Long orderId);
 
     @Query("SELECT o.store.id FROM Order o WHERE o.id = :orderId")
     Long findStoreIdById(Long orderId);
@@ -19,4 +104,26 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     boolean existsByStoreId(Long storeId);
 
     Optional<Order> findByUserIdAndOrderState(Long userId, OrderState orderState);
+
+    // id 기준 keyset 페이징, 이미 비워진 장바구니는 제외
+    @Query("SELECT o.id FROM Order o " +
+            "WHERE o.orderState = :orderState AND o.updatedAt < :expiredAt AND o.id > :lastId " +
+            "AND EXISTS (SELECT 1 FROM OrderMenu om WHERE om.order = o) " +
+            "ORDER BY o.id")
+    List<Long> findExpiredCartIds(
+            @Param("orderState") OrderState orderState,
+            @Param("expiredAt") LocalDateTime expiredAt,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    // findExpiredCartIds 이후 상태가 바뀐 장바구니를 거르고, 남은 행은 삭제가 끝날 때까지 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.id IN :orderIds AND o.orderState = :orderState AND o.updatedAt < :expiredAt")
+    List<Order> lockExpiredCarts(
+            @Param("orderIds") List<Long> orderIds,
+            @Param("orderState") OrderState orderState,
+            @Param("expiredAt") LocalDateTime expiredAt
+    );
 }
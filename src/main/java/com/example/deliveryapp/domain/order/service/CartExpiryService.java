@@ -0,0 +1,103 @@
+package com.example.deliveryapp.domain.order.service;
+
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.order.repository.OrderMenuOptionRepository;
+import com.example.deliveryapp.domain.order.repository.OrderMenuRepository;
+import com.example.deliveryapp.domain.order.repository.OrderRepository;
+import com.example.deliveryapp.domain.order.entity.Order;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartExpiryService {
+
+    @Value("${cart.expiry.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${cart.expiry.batch-size:500}")
+    private int batchSize;
+
+    private final OrderRepository orderRepository;
+    private final OrderMenuRepository orderMenuRepository;
+    private final OrderMenuOptionRepository orderMenuOptionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "0 0 0 * * ?") // 자정에 장바구니 검사
+    public int cleanupCarts() {
+        LocalDateTime expiredAt = LocalDateTime.now().minusHours(ttlHours);
+        long startedAt = System.nanoTime();
+        long lastId = 0L;
+        int totalCarts = 0;
+        int totalRows = 0;
+
+        // 만료된 장바구니 id 만 batchSize 단위로 읽어오므로 테이블 크기와 무관하게 메모리 사용량이 일정
+        while (true) {
+            List<Long> cartIds = orderRepository.findExpiredCartIds(
+                    OrderState.CART, expiredAt, lastId, PageRequest.of(0, batchSize));
+            if (cartIds.isEmpty()) {
+                break;
+            }
+
+            long batchStartedAt = System.nanoTime();
+            ClearResult cleared = transactionTemplate.execute(status -> clearCarts(cartIds, expiredAt));
+            long batchNanos = System.nanoTime() - batchStartedAt;
+            int clearedCarts = cleared == null ? 0 : cleared.carts();
+            int deletedRows = cleared == null ? 0 : cleared.deletedRows();
+
+            // 처리량은 cart.expiry.deleted.rows 의 증가율(rows/sec)로 확인
+            meterRegistry.timer("cart.expiry.batch").record(batchNanos, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("cart.expiry.carts").increment(clearedCarts);
+            meterRegistry.counter("cart.expiry.deleted.rows").increment(deletedRows);
+
+            totalCarts += clearedCarts;
+            totalRows += deletedRows;
+            lastId = cartIds.get(cartIds.size() - 1);
+
+            log.info("[장바구니 만료] batch carts={}/{}, deletedRows={}, latency={}ms",
+                    clearedCarts, cartIds.size(), deletedRows, batchNanos / 1_000_000);
+
+            if (cartIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("[장바구니 만료] 완료 carts={}, deletedRows={}, elapsed={}ms, rows/sec={}",
+                totalCarts, totalRows, elapsedMillis, totalRows * 1000L / elapsedMillis);
+
+        return totalCarts;
+    }
+
+    // 조회 이후 주문(CART -> PENDING)되거나 메뉴가 담긴(updatedAt 갱신) 장바구니는 제외하도록
+    // 배치 트랜잭션 안에서 잠그고 다시 거른 행만 자식 테이블부터 bulk delete
+    // 잠근 동안 주문 상태 변경이나 주문 메뉴 추가(FK 검사)는 커밋까지 대기
+    private ClearResult clearCarts(List<Long> cartIds, LocalDateTime expiredAt) {
+        List<Long> lockedIds = orderRepository.lockExpiredCarts(cartIds, OrderState.CART, expiredAt).stream()
+                .map(Order::getId)
+                .toList();
+        if (lockedIds.isEmpty()) {
+            return new ClearResult(0, 0);
+        }
+
+        int deletedOptions = orderMenuOptionRepository.deleteAllByOrderIds(lockedIds);
+        int deletedMenus = orderMenuRepository.deleteAllByOrderIds(lockedIds);
+        orderRepository.resetTotalPriceByIds(lockedIds);
+        return new ClearResult(lockedIds.size(), deletedOptions + deletedMenus);
+    }
+
+    private record ClearResult(int carts, int deletedRows) {
+    }
+}
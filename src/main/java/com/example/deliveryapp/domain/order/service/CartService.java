@@ -2,32 +2,38 @@ package com.example.deliveryapp.domain.order.service;
 
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog.OptionCategorySnapshot;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog.OptionItemSnapshot;
 import com.example.deliveryapp.domain.menu.entity.Menu;
-import com.example.deliveryapp.domain.menu.entity.OptionCategory;
-import com.example.deliveryapp.domain.menu.entity.OptionItem;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
-import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
 import com.example.deliveryapp.domain.menu.repository.OptionItemRepository;
 import com.example.deliveryapp.domain.order.dto.request.CartAddRequest;
 import com.example.deliveryapp.domain.order.dto.request.CartAddRequest.OptionRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartBulkAddRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartBulkAddRequest.CartLineRequest;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.entity.Order;
 import com.example.deliveryapp.domain.order.entity.OrderMenu;
 import com.example.deliveryapp.domain.order.entity.OrderMenuOption;
 import com.example.deliveryapp.domain.order.enums.OrderState;
 import com.example.deliveryapp.domain.order.repository.OrderRepository;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.user.cache.UserRoleCache;
 import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
 import com.example.deliveryapp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toList;
@@ -39,16 +45,17 @@ public class CartService {
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
-    private final OptionCategoryRepository optionCategoryRepository;
     private final OptionItemRepository optionItemRepository;
+    private final MenuOptionCatalogCache menuOptionCatalogCache;
+    private final UserRoleCache userRoleCache;
 
     @Transactional
     public void addCart(Long userId, CartAddRequest request) {
-        User user = userRepository.findByIdAndUserRoleOrThrow(userId);
+        User user = getCartUser(userId);
         Menu menu = menuRepository.findActiveMenuByIdOrThrow(request.getMenuId());
-        List<OptionCategory> optionCategories = optionCategoryRepository.findAllByMenuId(menu.getId());
+        MenuOptionCatalog optionCatalog = menuOptionCatalogCache.get(menu.getId());
 
-        validateOptionRequest(request, optionCategories);
+        validateOptionRequest(request.getOptions(), optionCatalog);
 
         // 장바구니 찾아오고, 없으면 새로 생성
         Order cart = orderRepository.findByUserIdAndOrderState(userId, OrderState.CART)
@@ -60,12 +67,12 @@ public class CartService {
             cart.setStore(menu.getStore());
         }
 
-        // 장바구니에 주문 메뉴 추가
+        // 장바구니에 주문 메뉴 추가 (옵션 이름, 가격은 캐시된 스냅샷에서 가져오고 옵션 항목은 FK 참조만 사용)
         OrderMenu orderMenu = new OrderMenu(menu);
         request.getOptions().stream()
                 .flatMap(optionRequest -> optionRequest.getOptionItemIds().stream())
-                .map(optionItemRepository::findByIdOrThrow)
-                .map(OrderMenuOption::new)
+                .map(optionCatalog::getOptionItem)
+                .map(this::toOrderMenuOption)
                 .forEach(orderMenu::addOrderMenuOption);
 
         cart.addOrderMenu(orderMenu);
@@ -75,19 +82,81 @@ public class CartService {
         }
     }
 
+    // 여러 메뉴를 한 번에 담음, 메뉴/옵션 카탈로그는 요청 전체에 대해 한 번씩만 조회
+    // 같은 메뉴 + 같은 옵션 조합은 행을 새로 만들지 않고 기존 주문 메뉴의 수량을 늘림
+    // 담은 뒤 메뉴/옵션 가격이 바뀌었으면 기존 단가로 합치지 않고 현재 가격으로 새 행을 만듦
+    @Transactional
+    public List<OrderResponse.OrderMenuResponse> addCartItems(Long userId, CartBulkAddRequest request) {
+        User user = getCartUser(userId);
+
+        Set<Long> menuIds = request.getItems().stream()
+                .map(CartLineRequest::getMenuId)
+                .collect(Collectors.toSet());
+        Map<Long, Menu> menus = menuRepository.findAllByIdInAndDeletedAtIsNull(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        if (menus.size() != menuIds.size()) {
+            throw new CustomException(ErrorCode.MENU_NOT_FOUND);
+        }
+
+        Store store = menus.values().iterator().next().getStore();
+        boolean sameStore = menus.values().stream()
+                .allMatch(menu -> menu.getStore().getId().equals(store.getId()));
+        if (!sameStore) {
+            throw new CustomException(ErrorCode.CART_MIXED_STORES);
+        }
+
+        Map<Long, MenuOptionCatalog> optionCatalogs = menuOptionCatalogCache.getAll(menuIds);
+        for (CartLineRequest line : request.getItems()) {
+            validateOptionRequest(line.getOptions(), optionCatalogs.get(line.getMenuId()));
+        }
+
+        Order cart = orderRepository.findByUserIdAndOrderState(userId, OrderState.CART)
+                .orElse(new Order(user, store, OrderState.CART));
+
+        if (!cart.getStore().getId().equals(store.getId())) {
+            cart.clearOrderMenus();
+            cart.setStore(store);
+        }
+
+        Map<CartLineKey, OrderMenu> cartLines = new HashMap<>();
+        for (OrderMenu orderMenu : cart.getOrderMenus()) {
+            cartLines.putIfAbsent(CartLineKey.of(orderMenu), orderMenu);
+        }
+
+        for (CartLineRequest line : request.getItems()) {
+            CartLineKey key = CartLineKey.of(line);
+            MenuOptionCatalog optionCatalog = optionCatalogs.get(line.getMenuId());
+            OrderMenu existing = cartLines.get(key);
+            if (existing != null
+                    && existing.getUnitPrice() == unitPrice(menus.get(line.getMenuId()), optionCatalog, key)) {
+                if (existing.getQuantity() + line.getQuantity() > OrderMenu.MAX_QUANTITY) {
+                    throw new CustomException(ErrorCode.CART_QUANTITY_EXCEEDED);
+                }
+                existing.increaseQuantity(line.getQuantity());
+                continue;
+            }
+
+            OrderMenu orderMenu = new OrderMenu(menus.get(line.getMenuId()), line.getQuantity());
+            key.optionItemIds().stream()
+                    .map(optionCatalog::getOptionItem)
+                    .map(this::toOrderMenuOption)
+                    .forEach(orderMenu::addOrderMenuOption);
+
+            cart.addOrderMenu(orderMenu);
+            cartLines.put(key, orderMenu);
+        }
+
+        if (cart.getId() == null) {
+            orderRepository.save(cart);
+        }
+        orderRepository.flush(); // 응답에 주문 메뉴 id 를 담기 위해 한 번에 반영
+
+        return toCartItems(cart);
+    }
+
     @Transactional(readOnly = true)
     public List<OrderResponse.OrderMenuResponse> getCartItems(Long userId) {
-        Order order = getOrderInCart(userId);
-
-        return order.getOrderMenus().stream()
-                .map(menu -> new OrderResponse.OrderMenuResponse(
-                        menu.getId(), menu.getMenu().getId(), menu.getMenu().getName(), menu.getTotalPrice(),
-                        menu.getOrderMenuOptions().stream()
-                                .map(option -> new OrderResponse.OrderMenuResponse.OrderMenuOptionResponse(
-                                        option.getId(), option.getOptionItem().getId(),
-                                        option.getOptionItem().getName(), option.getAdditionalPrice()
-                                )).collect(toList())
-                )).collect(toList());
+        return toCartItems(getOrderInCart(userId));
     }
 
     @Transactional
@@ -103,32 +172,43 @@ public class CartService {
         orderRepository.save(order);
     }
 
-    @Scheduled(cron = "0 0 0 * * ?") // 자정에 장바구니 검사
-    public void cleanupCarts() {
-        List<Order> orders = orderRepository.findAll();
-        for (Order order : orders) {
-            checkCartTimeOut(order.getId());
-        }
+    private List<OrderResponse.OrderMenuResponse> toCartItems(Order order) {
+        return order.getOrderMenus().stream()
+                .map(menu -> new OrderResponse.OrderMenuResponse(
+                        menu.getId(), menu.getMenu().getId(), menu.getMenu().getName(), menu.getTotalPrice(),
+                        menu.getQuantity(),
+                        menu.getOrderMenuOptions().stream()
+                                .map(option -> new OrderResponse.OrderMenuResponse.OrderMenuOptionResponse(
+                                        option.getId(), option.getOptionItemId(),
+                                        option.getName(), option.getAdditionalPrice()
+                                )).collect(toList())
+                )).collect(toList());
     }
 
-    private void checkCartTimeOut(Long orderId) {
-        Order order = getOrderInCart(orderId);
-        Duration duration = Duration.between(order.getUpdatedAt(), LocalDateTime.now());
+    private static long unitPrice(Menu menu, MenuOptionCatalog optionCatalog, CartLineKey key) {
+        return menu.getPrice() + key.optionItemIds().stream()
+                .map(optionCatalog::getOptionItem)
+                .mapToLong(OptionItemSnapshot::getAdditionalPrice)
+                .sum();
+    }
 
-        if (24 <= duration.toHours()) {
-            order.getOrderMenus().clear();
-            orderRepository.save(order);
-        }
+    private OrderMenuOption toOrderMenuOption(OptionItemSnapshot optionItem) {
+        return new OrderMenuOption(
+                optionItemRepository.getReferenceById(optionItem.getId()),
+                optionItem.getName(),
+                optionItem.getAdditionalPrice()
+        );
     }
 
-    private void validateOptionRequest(CartAddRequest request, List<OptionCategory> optionCategories) {
-        Map<Long, List<Long>> selectedOptionMap = getOptionRequestMap(request.getOptions());
+    static void validateOptionRequest(List<OptionRequest> options, MenuOptionCatalog optionCatalog) {
+        Map<Long, List<Long>> selectedOptionMap = getOptionRequestMap(options);
+        List<OptionCategorySnapshot> optionCategories = optionCatalog.getOptionCategories();
 
         if (optionCategories.size() != selectedOptionMap.size()) {
             throw new CustomException(ErrorCode.INVALID_OPTION_CATEGORY_COUNT);
         }
 
-        for (OptionCategory optionCategory : optionCategories) {
+        for (OptionCategorySnapshot optionCategory : optionCategories) {
             if (!selectedOptionMap.containsKey(optionCategory.getId())) {
                 throw new CustomException(ErrorCode.MISSING_OPTION_CATEGORY);
             }
@@ -147,17 +227,16 @@ public class CartService {
                 throw new CustomException(ErrorCode.EXCEEDS_MAX_OPTION_SELECTION);
             }
 
-            Set<Long> optionItemIds = optionCategory.getOptionItems().stream()
-                    .map(OptionItem::getId)
-                    .collect(Collectors.toSet());
-
-            if (!optionItemIds.containsAll(selectedOptionItemIds)) {
+            if (!optionCategory.getOptionItemIds().containsAll(selectedOptionItemIds)) {
                 throw new CustomException(ErrorCode.INVALID_OPTION_ITEM);
             }
         }
     }
 
-    private Map<Long, List<Long>> getOptionRequestMap(List<OptionRequest> request) {
+    private static Map<Long, List<Long>> getOptionRequestMap(List<OptionRequest> request) {
+        if (request == null) { // 옵션 없이 담는 경우
+            return Map.of();
+        }
         try {
             return request.stream()
                     .collect(Collectors.toMap(
@@ -169,9 +248,36 @@ public class CartService {
         }
     }
 
-    private Order getOrderInCart(Long orderId) {
-        return orderRepository.findByUserIdAndOrderState(orderId, OrderState.CART)
+    // 권한은 캐시로 확인하고, 사용자는 새 장바구니의 FK 로만 쓰이므로 조회 없이 참조만 가져옴
+    private User getCartUser(Long userId) {
+        if (userRoleCache.getActiveRole(userId) != UserRole.USER) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        return userRepository.getReferenceById(userId);
+    }
+
+    private Order getOrderInCart(Long userId) {
+        return orderRepository.findByUserIdAndOrderState(userId, OrderState.CART)
                 .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
     }
 
+    // 장바구니 한 줄을 구분하는 키, 옵션 항목 id 는 정렬해서 선택 순서와 무관하게 비교
+    private record CartLineKey(Long menuId, List<Long> optionItemIds) {
+
+        private static CartLineKey of(OrderMenu orderMenu) {
+            return new CartLineKey(orderMenu.getMenu().getId(), orderMenu.getOrderMenuOptions().stream()
+                    .map(OrderMenuOption::getOptionItemId)
+                    .sorted(Comparator.nullsFirst(Comparator.naturalOrder())) // 삭제된 옵션 항목은 null 이라 요청과 합쳐지지 않음
+                    .toList());
+        }
+
+        private static CartLineKey of(CartLineRequest line) {
+            List<OptionRequest> options = line.getOptions() == null ? List.of() : line.getOptions();
+            return new CartLineKey(line.getMenuId(), options.stream()
+                    .flatMap(option -> option.getOptionItemIds().stream())
+                    .sorted()
+                    .toList());
+        }
+    }
+
 }
@@ -3,26 +3,44 @@ package com.example.deliveryapp.domain.order.service;
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.order.converter.OrderConverter;
+import com.example.deliveryapp.domain.order.dto.OrderCursor;
+import com.example.deliveryapp.domain.order.dto.OrderStateChange;
+import com.example.deliveryapp.domain.order.dto.OrderTransitionTarget;
 import com.example.deliveryapp.domain.order.dto.request.OrderStateUpdateRequest;
+import com.example.deliveryapp.domain.order.dto.response.OrderCursorResponse;
+import com.example.deliveryapp.domain.order.dto.response.OrderPageResponse;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.entity.Order;
 import com.example.deliveryapp.domain.order.entity.OrderMenu;
 import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.order.enums.OrderTransition;
 import com.example.deliveryapp.domain.order.repository.OrderRepository;
 import com.example.deliveryapp.domain.store.entity.Store;
 import com.example.deliveryapp.domain.store.enums.StoreStatus;
 import com.example.deliveryapp.domain.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    // 가게 주문 목록 정렬 (keyset 커서와 같은 순서)
+    private static final Comparator<Order> LATEST_FIRST =
+            Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId).reversed();
+
     private final StoreRepository storeRepository;
     private final OrderRepository orderRepository;
 
@@ -40,55 +58,93 @@ public class OrderService {
     }
 
     @Transactional(readOnly = true)
-    public List<OrderResponse> getOrdersByUserId(Long userId) {
-        return orderRepository.findOrdersByUserId(userId).stream()
-                .filter(order -> !order.getOrderState().equals(OrderState.CART))
-                .map(OrderConverter::toResponse)
-                .toList();
+    public OrderPageResponse getOrdersByUserId(Long userId, Integer page, Integer size) {
+        Page<OrderResponse> orderPage = orderRepository
+                .findOrdersByUserIdAndOrderStateNot(userId, OrderState.CART, toPageable(page, size))
+                .map(OrderConverter::toResponse);
+
+        return new OrderPageResponse(orderPage);
     }
 
-    @Transactional
-    public List<OrderResponse> getOrdersByStoreId(Long userId, Long storeId) {
+    @Transactional(readOnly = true)
+    public void checkStoreOwner(Long userId, Long storeId) {
+        Store store = storeRepository.findActiveStoreByIdOrThrow(storeId);
+        validateStoreOwner(userId, store.getUser().getId());
+    }
+
+    @Transactional(readOnly = true)
+    public OrderCursorResponse getOrdersByStoreId(
+            Long userId, Long storeId, String cursor, List<OrderState> orderStates, Integer size) {
         Store store = storeRepository.findActiveStoreByIdOrThrow(storeId);
         validateStoreOwner(userId, store.getUser().getId());
 
-        return orderRepository.findOrdersByStoreId(storeId).stream()
-                .filter(order -> !order.getOrderState().equals(OrderState.CART))
-                .map(OrderConverter::toResponse)
+        Set<OrderState> targetStates = toTargetStates(orderStates);
+        if (targetStates.isEmpty()) {
+            return new OrderCursorResponse(List.of(), null, false, size);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        // 상태마다 최대 size + 1 건씩 인덱스 순서로 읽고 (createdAt, id) 내림차순으로 병합
+        OrderCursor orderCursor = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Order> orders = targetStates.stream()
+                .flatMap(orderState -> findStoreOrders(storeId, orderState, orderCursor, limit).stream())
+                .sorted(LATEST_FIRST)
+                .limit(size + 1)
                 .toList();
+
+        boolean hasNext = orders.size() > size;
+        List<Order> content = hasNext ? orders.subList(0, size) : orders;
+        String nextCursor = hasNext ? OrderCursor.from(content.get(content.size() - 1)).encode() : null;
+
+        return new OrderCursorResponse(
+                content.stream().map(OrderConverter::toResponse).toList(),
+                nextCursor,
+                hasNext,
+                size
+        );
     }
 
+    // 조회 후 검증하는 대신 조건부 UPDATE 로 전이, 동시에 요청이 와도 한 건만 성공
     @Transactional
-    public void updateOrderState(Long userId, Long orderId, OrderStateUpdateRequest request) {
-        Order order = orderRepository.findById(orderId).orElseThrow(
-                () -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
-
-        Long orderUserId = order.getUser().getId();
-        Long storeOwnerId = order.getStore().getUser().getId();
-        OrderState orderState = request.getOrderState();
-
-        switch (orderState) {
-            case CANCELED:
-                validateCancelOrder(userId, order, orderUserId);
-                order.setOrderState(OrderState.CANCELED);
-                break;
-            case ACCEPTED:
-                validateAcceptOrder(userId, order, storeOwnerId);
-                order.setOrderState(OrderState.ACCEPTED);
-                break;
-            case REJECTED:
-                validateRejectOrder(userId, order, storeOwnerId);
-                order.setOrderState(OrderState.REJECTED);
-                break;
-            case DELIVERY:
-                validateStartDelivery(userId, order, storeOwnerId);
-                order.setOrderState(OrderState.DELIVERY);
-                break;
-            case COMPLETED:
-                validateCompleteDelivery(userId, order, storeOwnerId);
-                order.setOrderState(OrderState.COMPLETED);
-                break;
+    public OrderStateChange updateOrderState(Long userId, Long orderId, OrderStateUpdateRequest request) {
+        OrderTransition transition = OrderTransition.to(request.getOrderState());
+        LocalDateTime now = LocalDateTime.now();
+
+        int updatedCount = transition.isByCustomer()
+                ? orderRepository.transitionByCustomer(
+                        orderId, userId, transition.getFromState(), transition.getToState(), now)
+                : orderRepository.transitionByStoreOwner(
+                        orderId, userId, transition.getFromState(), transition.getToState(), now);
+
+        if (updatedCount == 0) {
+            throw toTransitionException(userId, orderId, transition);
+        }
+
+        return new OrderStateChange(
+                orderId, orderRepository.findStoreIdById(orderId), transition.getFromState(), transition.getToState());
+    }
+
+    private List<Order> findStoreOrders(Long storeId, OrderState orderState, OrderCursor orderCursor, Pageable limit) {
+        if (orderCursor == null) {
+            return orderRepository.findStoreOrdersFirstPage(storeId, orderState, limit);
+        }
+        return orderRepository.findStoreOrdersAfter(
+                storeId, orderState, orderCursor.getCreatedAt(), orderCursor.getId(), limit);
+    }
+
+    // 장바구니 상태는 항상 제외, 필터가 없으면 나머지 전체 상태
+    private static Set<OrderState> toTargetStates(List<OrderState> orderStates) {
+        Set<OrderState> targetStates = EnumSet.complementOf(EnumSet.of(OrderState.CART));
+        if (orderStates != null && !orderStates.isEmpty()) {
+            targetStates.retainAll(orderStates);
         }
+        return targetStates;
+    }
+
+    // 최신 주문 순
+    private static Pageable toPageable(Integer page, Integer size) {
+        return PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
     }
 
     private static void validateOrderAvailability(Order order) {
@@ -102,7 +158,7 @@ public class OrderService {
             throw new CustomException(ErrorCode.ORDER_CLOSED);
         }
 
-        if (order.calculateTotalPrice() < store.getMinimumOrderPrice()) {
+        if (order.getTotalPrice() < store.getMinimumOrderPrice()) {
             throw new CustomException(ErrorCode.ORDER_TOO_CHEAP);
         }
     }
@@ -128,54 +184,16 @@ public class OrderService {
         }
     }
 
-    // 주문 취소 상태 검증
-    private void validateCancelOrder(Long userId, Order order, Long orderUserId) {
-        if (!orderUserId.equals(userId)) {
-            throw new CustomException(ErrorCode.INVALID_USER_ROLE);
-        }
-        if (!OrderState.PENDING.equals(order.getOrderState())) {
-            throw new CustomException(ErrorCode.ORDER_CANNOT_BE_CANCELED);
-        }
-    }
-
-    // 주문 수락 상태 검증
-    private void validateAcceptOrder(Long userId, Order order, Long storeOwnerId) {
-        if (!storeOwnerId.equals(userId)) {
-            throw new CustomException(ErrorCode.INVALID_USER_ROLE);
-        }
-        if (!OrderState.PENDING.equals(order.getOrderState())) {
-            throw new CustomException(ErrorCode.ORDER_CANNOT_BE_ACCEPTED);
-        }
-    }
+    // 전이 실패 시에만 원인 확인 (주문 없음 -> 권한 -> 상태 순)
+    private CustomException toTransitionException(Long userId, Long orderId, OrderTransition transition) {
+        OrderTransitionTarget target = orderRepository.findTransitionTargetById(orderId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 
-    // 주문 거절 상태 검증
-    private void validateRejectOrder(Long userId, Order order, Long storeOwnerId) {
-        if (!storeOwnerId.equals(userId)) {
-            throw new CustomException(ErrorCode.INVALID_USER_ROLE);
-        }
-        if (!OrderState.PENDING.equals(order.getOrderState())) {
-            throw new CustomException(ErrorCode.ORDER_CANNOT_BE_REJECTED);
-        }
-    }
-
-    // 배달 시작 상태 검증
-    private void validateStartDelivery(Long userId, Order order, Long storeOwnerId) {
-        if (!storeOwnerId.equals(userId)) {
-            throw new CustomException(ErrorCode.INVALID_USER_ROLE);
-        }
-        if (!OrderState.ACCEPTED.equals(order.getOrderState())) {
-            throw new CustomException(ErrorCode.ORDER_CANNOT_BE_DELIVERY);
-        }
-    }
-
-    // 배달 완료 상태 검증
-    private void validateCompleteDelivery(Long userId, Order order, Long storeOwnerId) {
-        if (!storeOwnerId.equals(userId)) {
-            throw new CustomException(ErrorCode.INVALID_USER_ROLE);
-        }
-        if (!OrderState.DELIVERY.equals(order.getOrderState())) {
-            throw new CustomException(ErrorCode.ORDER_CANNOT_BE_COMPLETED);
+        Long actorId = transition.isByCustomer() ? target.getUserId() : target.getStoreOwnerId();
+        if (!actorId.equals(userId)) {
+            return new CustomException(ErrorCode.INVALID_USER_ROLE);
         }
+        return new CustomException(transition.getErrorCode());
     }
 
 }
@@ -0,0 +1,106 @@
+package com.example.deliveryapp.domain.order.service;
+
+import com.example.deliveryapp.domain.order.repository.OrderMenuRepository;
+import com.example.deliveryapp.domain.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// orders.total_price, order_menus.total_price 가 실제 주문 항목 합계와 같은지 검사
+// 주문 메뉴를 먼저 바로잡아야 주문 합계를 올바르게 다시 계산할 수 있음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderTotalPriceChecker implements SmartInitializingSingleton {
+
+    @Value("${order.total-price.check-batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.total-price.repair:true}")
+    private boolean repair;
+
+    @Value("${order.total-price.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    private final OrderRepository orderRepository;
+    private final OrderMenuRepository orderMenuRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // total_price 컬럼 추가 후 마이그레이션 대신 한 번만 켜서 실행 (기본 비활성)
+    // 웹 서버가 요청을 받기 전에 실행, 컬럼 추가 전의 주문이 0원으로 읽혀 최소 주문 금액 검사에 걸리지 않도록 함
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    // 합계가 0 으로 남은 행만 주문 항목 기준으로 다시 계산, 이미 채워졌으면 다시 실행해도 갱신하지 않음
+    public int backfill() {
+        long startedAt = System.nanoTime();
+
+        int orderMenus = scan(
+                orderMenuRepository::findZeroTotalPriceIds, orderMenuRepository::recalculateTotalPriceByIds, true);
+        int orders = scan(
+                orderRepository::findZeroTotalPriceIds, orderRepository::recalculateTotalPriceByIds, true);
+
+        if (orderMenus + orders > 0) {
+            log.info("[주문 합계 채우기] orderMenus={}, orders={}, elapsed={}ms",
+                    orderMenus, orders, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+        return orderMenus + orders;
+    }
+
+    @Scheduled(cron = "${order.total-price.check-cron:-}")
+    public int check() {
+        long startedAt = System.nanoTime();
+
+        int mismatchedOrderMenus = scan(
+                orderMenuRepository::findTotalPriceMismatchIds, orderMenuRepository::recalculateTotalPriceByIds, repair);
+        int mismatchedOrders = scan(
+                orderRepository::findTotalPriceMismatchIds, orderRepository::recalculateTotalPriceByIds, repair);
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        if (mismatchedOrderMenus + mismatchedOrders > 0) {
+            log.warn("[주문 합계 검사] 불일치 orderMenus={}, orders={}, repaired={}, elapsed={}ms",
+                    mismatchedOrderMenus, mismatchedOrders, repair, elapsedMillis);
+        } else {
+            log.info("[주문 합계 검사] 완료 elapsed={}ms", elapsedMillis);
+        }
+
+        return mismatchedOrderMenus + mismatchedOrders;
+    }
+
+    private int scan(BiFunction<Long, PageRequest, List<Long>> findMismatchIds,
+                     Function<List<Long>, Integer> recalculate, boolean repair) {
+        long lastId = 0L;
+        int mismatched = 0;
+
+        while (true) {
+            List<Long> ids = findMismatchIds.apply(lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            mismatched += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            if (repair) {
+                transactionTemplate.executeWithoutResult(status -> recalculate.apply(ids));
+            }
+
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return mismatched;
+    }
+}
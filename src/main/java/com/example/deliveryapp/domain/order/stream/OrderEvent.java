@@ -0,0 +1,18 @@
+package com.example.deliveryapp.domain.order.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderEvent {
+
+    public static final String ORDER_CREATED = "order-created";
+    public static final String ORDER_STATE_CHANGED = "order-state-changed";
+    public static final String RESYNC = "resync"; // 재연결 시 놓친 이벤트가 보관 범위를 벗어난 경우, 목록 API 로 다시 조회
+
+    private final long id;
+    private final Long storeId;
+    private final String name;
+    private final Object data;
+}
@@ -0,0 +1,317 @@
+package com.example.deliveryapp.domain.order.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 가게별 주문 이벤트를 구독자(SseEmitter)에게 전달하는 인메모리 허브
+// - 구독자마다 크기가 제한된 큐를 두고 별도 스레드에서 전송 (요청 스레드는 큐에 넣기만 함)
+// - 큐가 가득 찬 느린 구독자는 연결을 끊고, 재연결 시 Last-Event-ID 이후 이벤트만 다시 전송
+// - 구독자가 없고 한동안 이벤트가 없는 가게 채널은 주기적으로 정리
+@Slf4j
+@Component
+public class OrderEventHub {
+
+    // 재시작 후에도 이전 프로세스가 발급한 id 보다 커지도록 시작 시각(ms * 1000)부터 발급
+    // (ms 당 1000건 미만이면 겹치지 않고, JS Number 로도 정확히 표현되는 범위)
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Map<Long, StoreChannel> channels = new ConcurrentHashMap<>();
+
+    private final int replaySize;
+    private final int subscriberQueueSize;
+    private final long timeoutMillis;
+    private final long channelIdleMillis;
+    private final ExecutorService dispatcher;
+    private final Counter droppedSubscriberCounter;
+
+    public OrderEventHub(
+            MeterRegistry meterRegistry,
+            @Value("${order.stream.replay-size:200}") int replaySize,
+            @Value("${order.stream.subscriber-queue-size:100}") int subscriberQueueSize,
+            @Value("${order.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${order.stream.dispatcher-threads:2}") int dispatcherThreads,
+            @Value("${order.stream.channel-idle-ms:600000}") long channelIdleMillis
+    ) {
+        this.replaySize = replaySize;
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.timeoutMillis = timeoutMillis;
+        this.channelIdleMillis = channelIdleMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.droppedSubscriberCounter = meterRegistry.counter("order.stream.subscribers.dropped");
+        meterRegistry.gauge("order.stream.subscribers", this, OrderEventHub::getSubscriberCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        channels.values().forEach(StoreChannel::completeAll);
+    }
+
+    public SseEmitter subscribe(Long storeId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, subscriberQueueSize);
+
+        // 정리되어 닫힌 채널을 받았으면 새 채널로 다시 시도
+        StoreChannel channel;
+        do {
+            channel = channel(storeId);
+        } while (!channel.subscribe(subscriber, lastEventId));
+
+        StoreChannel subscribedChannel = channel;
+        emitter.onCompletion(() -> subscribedChannel.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribedChannel.remove(subscriber));
+
+        dispatch(subscriber);
+        return emitter;
+    }
+
+    public OrderEvent publish(Long storeId, String name, Object data) {
+        OrderEvent event;
+        do {
+            event = channel(storeId).publish(name, data);
+        } while (event == null);
+        return event;
+    }
+
+    @Scheduled(fixedDelayString = "${order.stream.prune-interval-ms:60000}")
+    public void pruneIdleChannels() {
+        int pruned = pruneIdleChannels(System.currentTimeMillis());
+        if (pruned > 0) {
+            log.debug("[주문 스트림] 유휴 채널 정리 pruned={}, remaining={}", pruned, channels.size());
+        }
+    }
+
+    // 판단과 제거를 computeIfPresent 안에서 처리해 그 사이 새로 만들어지는 채널을 지우지 않음
+    int pruneIdleChannels(long now) {
+        int before = channels.size();
+        channels.keySet().forEach(storeId ->
+                channels.computeIfPresent(storeId, (id, channel) -> channel.closeIfIdle(now) ? null : channel));
+        return before - channels.size();
+    }
+
+    int getChannelCount() {
+        return channels.size();
+    }
+
+    public int getSubscriberCount() {
+        return channels.values().stream()
+                .mapToInt(channel -> channel.subscribers.size())
+                .sum();
+    }
+
+    List<OrderEvent> eventsAfter(Long storeId, Long lastEventId) {
+        return channel(storeId).eventsAfter(lastEventId);
+    }
+
+    List<OrderEvent> replayFor(Long storeId, Long lastEventId) {
+        return channel(storeId).replayFor(lastEventId, subscriberQueueSize);
+    }
+
+    private StoreChannel channel(Long storeId) {
+        return channels.computeIfAbsent(storeId, StoreChannel::new);
+    }
+
+    private void dispatch(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    // 한 구독자의 큐는 한 스레드만 비우도록 scheduled 플래그로 보장
+    private void drain(Subscriber subscriber) {
+        do {
+            OrderEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (!send(subscriber, event)) {
+                    return;
+                }
+            }
+            subscriber.scheduled.set(false);
+        } while (!subscriber.queue.isEmpty() && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, OrderEvent event) {
+        try {
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getId()))
+                    .name(event.getName())
+                    .data(event.getData()));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자, onCompletion/onError 콜백에서 제거됨
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void drop(StoreChannel channel, Subscriber subscriber) {
+        channel.remove(subscriber);
+        subscriber.emitter.complete();
+        droppedSubscriberCounter.increment();
+        log.warn("[주문 스트림] 느린 구독자 연결 종료 storeId={}", channel.storeId);
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<OrderEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int queueSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+
+    private class StoreChannel {
+        private final Long storeId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Deque<OrderEvent> history = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private long evictedUpTo; // 보관 범위를 벗어난 마지막 이벤트 id
+        private long lastActiveAt = System.currentTimeMillis();
+        private boolean closed;
+
+        // 채널이 새로 만들어지기 전의 이벤트는 (재시작이나 정리로) 보관되어 있지 않으므로 보관 범위 밖으로 취급
+        private StoreChannel(Long storeId) {
+            this.storeId = storeId;
+            this.evictedUpTo = sequence.get();
+        }
+
+        // id 발급, 보관, 구독자 큐 적재를 같은 잠금 안에서 처리해 history 와 전송 순서를 id 순으로 유지
+        // synchronized 대신 ReentrantLock 사용, 가상 스레드 모드에서 대기 중에도 캐리어 스레드를 점유하지 않음
+        // 이미 정리된 채널이면 null 반환
+        private OrderEvent publish(String name, Object data) {
+            List<Subscriber> slowSubscribers = new ArrayList<>();
+            OrderEvent event;
+
+            lock.lock();
+            try {
+                if (closed) {
+                    return null;
+                }
+                lastActiveAt = System.currentTimeMillis();
+                event = new OrderEvent(sequence.incrementAndGet(), storeId, name, data);
+                history.addLast(event);
+                if (history.size() > replaySize) {
+                    evictedUpTo = history.removeFirst().getId();
+                }
+
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.queue.offer(event)) {
+                        dispatch(subscriber);
+                    } else {
+                        subscribers.remove(subscriber);
+                        slowSubscribers.add(subscriber);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // 연결 종료는 응답 처리가 따라오므로 잠금 밖에서 수행
+            slowSubscribers.forEach(subscriber -> drop(this, subscriber));
+            return event;
+        }
+
+        // 구독 등록과 놓친 이벤트 적재도 같은 잠금 안에서 처리해 중복/누락 방지
+        // 이미 정리된 채널이면 false 반환
+        private boolean subscribe(Subscriber subscriber, Long lastEventId) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                lastActiveAt = System.currentTimeMillis();
+                replayFor(lastEventId, subscriber.queue.remainingCapacity()).forEach(subscriber.queue::offer);
+                subscribers.add(subscriber);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 놓친 이벤트를 이어 보낼 수 없으면 (보관 범위 밖, 아직 발급되지 않은 id, 큐 용량 초과) RESYNC 하나만 전송
+        // RESYNC 의 id 는 현재 마지막 id 로 두어 다음 재연결의 Last-Event-ID 를 현재 시점으로 맞춤
+        private List<OrderEvent> replayFor(Long lastEventId, int capacity) {
+            if (lastEventId == null) {
+                return List.of();
+            }
+            lock.lock();
+            try {
+                List<OrderEvent> missedEvents = eventsAfter(lastEventId);
+                if (lastEventId < evictedUpTo || lastEventId > sequence.get() || missedEvents.size() >= capacity) {
+                    return List.of(new OrderEvent(sequence.get(), storeId, OrderEvent.RESYNC, storeId));
+                }
+                return missedEvents;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<OrderEvent> eventsAfter(Long lastEventId) {
+            long after = lastEventId == null ? 0L : lastEventId;
+            lock.lock();
+            try {
+                return history.stream()
+                        .filter(event -> event.getId() > after)
+                        .toList();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(Subscriber subscriber) {
+            lock.lock();
+            try {
+                subscribers.remove(subscriber);
+                lastActiveAt = System.currentTimeMillis();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean closeIfIdle(long now) {
+            lock.lock();
+            try {
+                closed = subscribers.isEmpty() && now - lastActiveAt >= channelIdleMillis;
+                return closed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void completeAll() {
+            subscribers.forEach(subscriber -> subscriber.emitter.complete());
+            subscribers.clear();
+        }
+    }
+}
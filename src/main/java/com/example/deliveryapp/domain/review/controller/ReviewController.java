@@ -3,6 +3,7 @@ package com.example.deliveryapp.domain.review.controller;
 import com.example.deliveryapp.domain.review.dto.ReviewRequestDto;
 import com.example.deliveryapp.domain.review.dto.ReviewResponseDto;
 import com.example.deliveryapp.domain.review.service.ReviewService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
@@ -33,13 +34,13 @@ public class ReviewController {
 
     // 리뷰 작성
     @PostMapping("/stores/{storeId}/reviews")
-    public ReviewResponseDto createReview(@RequestBody ReviewRequestDto reviewRequestDto) {
+    public ReviewResponseDto createReview(@Valid @RequestBody ReviewRequestDto reviewRequestDto) {
         return reviewService.createReview(reviewRequestDto);
     }
 
     // 리뷰 수정
     @PutMapping("/reviews/{reviewId}")
-    public ReviewResponseDto updateReview(@PathVariable Long reviewId, @RequestBody ReviewRequestDto reviewRequestDto) {
+    public ReviewResponseDto updateReview(@PathVariable Long reviewId, @Valid @RequestBody ReviewRequestDto reviewRequestDto) {
         return reviewService.updateReview(reviewId, reviewRequestDto);
     }
 
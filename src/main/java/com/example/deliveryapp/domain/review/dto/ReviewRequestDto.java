@@ -1,11 +1,17 @@
 package com.example.deliveryapp.domain.review.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 
 @Getter
 public class ReviewRequestDto {
     private Long orderId;  // 주문 ID
     private String content;  // 리뷰 내용
+    @NotNull
+    @Min(1)
+    @Max(5)
     private Integer rating;  // 별점 (1~5)
 
     // 기본 생성자 추가
@@ -1,22 +1,52 @@
 package com.example.deliveryapp.domain.review.repository;
 
+import com.example.deliveryapp.domain.review.dto.ReviewResponseDto;
 import com.example.deliveryapp.domain.review.entity.Review;
-import com.example.deliveryapp.domain.store.dto.ReviewStatistics;
+import com.example.deliveryapp.domain.store.dto.ReviewRatingCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findByUserId(Long userId);
-    Page<Review> findByOrderStoreIdAndRatingBetween(Long storeId, Integer minRating, Integer maxRating, Pageable pageable);
-
-    @Query("SELECT new com.example.deliveryapp.domain.store.dto.ReviewStatistics(r.order.store.id, COUNT(r), AVG(r.rating)) " +
-            "FROM Review r " +
-            "WHERE r.order.store.id IN :storeIds " +
-            "GROUP BY r.order.store.id")
-    List<ReviewStatistics> countAndAverageRatingByStoreIds(@Param("storeIds") List<Long> storeIds);
+
+    // 작성자 이름과 주문의 첫 번째 메뉴 이름을 한 번에 조회
+    String REVIEW_RESPONSE_SELECT = "SELECT new com.example.deliveryapp.domain.review.dto.ReviewResponseDto(" +
+            "u.name, r.rating, r.content, " +
+            "COALESCE((SELECT om.name FROM OrderMenu om " +
+            "WHERE om.id = (SELECT MIN(om2.id) FROM OrderMenu om2 WHERE om2.order.id = o.id)), '메뉴 정보 없음'), " +
+            "r.createdAt) " +
+            "FROM Review r JOIN r.user u JOIN r.order o ";
+
+    @Query(value = REVIEW_RESPONSE_SELECT +
+            "WHERE o.store.id = :storeId AND r.rating BETWEEN :minRating AND :maxRating " +
+            "ORDER BY r.createdAt DESC, r.id DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r " +
+                    "WHERE r.order.store.id = :storeId AND r.rating BETWEEN :minRating AND :maxRating")
+    Page<ReviewResponseDto> findReviewResponsesByStoreId(
+            @Param("storeId") Long storeId,
+            @Param("minRating") Integer minRating,
+            @Param("maxRating") Integer maxRating,
+            Pageable pageable
+    );
+
+    @Query(REVIEW_RESPONSE_SELECT +
+            "WHERE u.id = :userId " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewResponseDto> findReviewResponsesByUserId(@Param("userId") Long userId);
+
+    @EntityGraph(attributePaths = "user")
+    Optional<Review> findWithUserById(Long id);
+
+    // 가게 리뷰 집계 재계산용
+    @Query("SELECT new com.example.deliveryapp.domain.store.dto.ReviewRatingCount(o.store.id, r.rating, COUNT(r)) " +
+            "FROM Review r JOIN r.order o " +
+            "WHERE o.store.id = :storeId AND r.rating BETWEEN 1 AND 5 " +
+            "GROUP BY o.store.id, r.rating")
+    List<ReviewRatingCount> countByRatingForStore(@Param("storeId") Long storeId);
 }
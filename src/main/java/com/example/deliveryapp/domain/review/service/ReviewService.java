@@ -1,6 +1,7 @@
 package com.example.deliveryapp.domain.review.service;
 
 import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.entity.OrderMenu;
 import com.example.deliveryapp.domain.order.repository.OrderRepository;
 import com.example.deliveryapp.domain.order.repository.OrderMenuRepository;
 import com.example.deliveryapp.domain.order.enums.OrderState;
@@ -8,6 +9,7 @@ import com.example.deliveryapp.domain.review.dto.ReviewRequestDto;
 import com.example.deliveryapp.domain.review.dto.ReviewResponseDto;
 import com.example.deliveryapp.domain.review.entity.Review;
 import com.example.deliveryapp.domain.review.repository.ReviewRepository;
+import com.example.deliveryapp.domain.store.service.StoreReviewStatsService;
 import com.example.deliveryapp.domain.user.entity.User;
 import com.example.deliveryapp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,16 +19,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+    private static final String DEFAULT_MENU_NAME = "메뉴 정보 없음";
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final OrderMenuRepository orderMenuRepository;
+    private final StoreReviewStatsService storeReviewStatsService;
 
     // 리뷰 생성
     @Transactional
@@ -53,64 +59,48 @@ public class ReviewService {
 
         // 리뷰 저장
         Review savedReview = reviewRepository.save(review);
+        storeReviewStatsService.addRating(order.getStore().getId(), review.getRating());
 
-        // 메뉴 이름을 가져오기 위해 OrderMenuRepository에서 주문에 해당하는 메뉴 정보 가져오기
-        String menuName = orderMenuRepository.findById(order.getId()).stream()
-                .findFirst()
-                .map(orderMenu -> orderMenu.getName())
-                .orElse("메뉴 정보 없음");
-
-        return new ReviewResponseDto(user.getName(), review.getRating(), review.getContent(), menuName, review.getCreatedAt());
+        return new ReviewResponseDto(user.getName(), review.getRating(), review.getContent(), findFirstMenuName(order.getId()), review.getCreatedAt());
     }
 
     // 리뷰 조회 (가게 기준, 최신순, 별점 범위 필터링, 페이징 처리)
+    @Transactional(readOnly = true)
     public Page<ReviewResponseDto> getReviewsByStoreId(Long storeId, Integer minRating, Integer maxRating, int page, int size) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Review> reviews = reviewRepository.findByOrderStoreIdAndRatingBetween(storeId, minRating, maxRating, pageRequest);
-
-        return reviews.map(review -> {
-            // 메뉴 이름을 가져오기 위해 OrderMenuRepository에서 주문에 해당하는 메뉴 정보 가져오기
-            String menuName = orderMenuRepository.findById(review.getOrder().getId()).stream()
-                    .findFirst()
-                    .map(orderMenu -> orderMenu.getName())
-                    .orElse("메뉴 정보 없음");
-            return new ReviewResponseDto(review.getUser().getName(), review.getRating(), review.getContent(), menuName, review.getCreatedAt());
-        });
+        return reviewRepository.findReviewResponsesByStoreId(
+                storeId,
+                minRating != null ? minRating : MIN_RATING,
+                maxRating != null ? maxRating : MAX_RATING,
+                pageRequest
+        );
     }
 
     // 내가 쓴 리뷰 전체 조회
+    @Transactional(readOnly = true)
     public List<ReviewResponseDto> getMyReviews(Long userId) {
-        List<Review> reviews = reviewRepository.findByUserId(userId);
-        return reviews.stream()
-                .map(review -> {
-                    String menuName = orderMenuRepository.findById(review.getOrder().getId()).stream()
-                            .findFirst()
-                            .map(orderMenu -> orderMenu.getName())
-                            .orElse("메뉴 정보 없음");
-                    return new ReviewResponseDto(review.getUser().getName(), review.getRating(), review.getContent(), menuName, review.getCreatedAt());
-                })
-                .collect(Collectors.toList());
+        return reviewRepository.findReviewResponsesByUserId(userId);
     }
 
     // 리뷰 수정
     @Transactional
     public ReviewResponseDto updateReview(Long reviewId, ReviewRequestDto reviewRequestDto) {
         // 리뷰를 ID로 조회
-        Review review = reviewRepository.findById(reviewId)
+        Review review = reviewRepository.findWithUserById(reviewId)
                 .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다."));
 
         // 리뷰 내용과 별점 수정
+        int previousRating = review.getRating();
         review.setContent(reviewRequestDto.getContent());
         review.setRating(reviewRequestDto.getRating());
 
         // 수정된 리뷰 저장
         Review updatedReview = reviewRepository.save(review);
+        Long storeId = orderRepository.findStoreIdById(updatedReview.getOrder().getId());
+        storeReviewStatsService.changeRating(storeId, previousRating, updatedReview.getRating());
 
         // 수정된 리뷰를 ReviewResponseDto로 변환하여 반환
-        String menuName = orderMenuRepository.findById(updatedReview.getOrder().getId()).stream()
-                .findFirst()
-                .map(orderMenu -> orderMenu.getName())
-                .orElse("메뉴 정보 없음");
+        String menuName = findFirstMenuName(updatedReview.getOrder().getId());
 
         return new ReviewResponseDto(updatedReview.getUser().getName(), updatedReview.getRating(), updatedReview.getContent(), menuName, updatedReview.getCreatedAt());
     }
@@ -124,5 +114,14 @@ public class ReviewService {
 
         // 리뷰 삭제
         reviewRepository.delete(review);
+        Long storeId = orderRepository.findStoreIdById(review.getOrder().getId());
+        storeReviewStatsService.removeRating(storeId, review.getRating());
+    }
+
+    // 주문의 첫 번째 메뉴 이름
+    private String findFirstMenuName(Long orderId) {
+        return orderMenuRepository.findFirstByOrderIdOrderByIdAsc(orderId)
+                .map(OrderMenu::getName)
+                .orElse(DEFAULT_MENU_NAME);
     }
 }
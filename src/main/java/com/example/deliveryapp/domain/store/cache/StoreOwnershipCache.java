@@ -0,0 +1,90 @@
+package com.example.deliveryapp.domain.store.cache;
+
+import com.example.deliveryapp.domain.common.cache.CacheInvalidation;
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 사장 메뉴/옵션 수정 시 소유권 검사용 인덱스 (storeId -> ownerId, menuId -> storeId)
+// 가게 사장과 메뉴의 가게는 바뀌지 않으므로 삭제될 때만 무효화, 없거나 삭제된 가게/메뉴는 캐시하지 않음
+@Component
+public class StoreOwnershipCache {
+
+    private static final String STORE_OWNER_CACHE_NAME = "storeOwner";
+    private static final String MENU_STORE_CACHE_NAME = "menuStore";
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final Cache<Long, Long> storeOwnerCache;
+    private final Cache<Long, Long> menuStoreCache;
+
+    public StoreOwnershipCache(
+            StoreRepository storeRepository,
+            MenuRepository menuRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.store-ownership.maximum-size:100000}") long maximumSize,
+            @Value("${cache.store-ownership.expire-after-write-seconds:3600}") long expireAfterWriteSeconds
+    ) {
+        this.storeRepository = storeRepository;
+        this.menuRepository = menuRepository;
+        // 다른 인스턴스에서 삭제된 경우를 위한 만료 시간
+        this.storeOwnerCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        this.menuStoreCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, storeOwnerCache, STORE_OWNER_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, menuStoreCache, MENU_STORE_CACHE_NAME);
+    }
+
+    public Long getOwnerId(Long storeId) {
+        Long ownerId = storeOwnerCache.get(storeId, id -> storeRepository.findOwnerIdByStoreIdIfActive(id).orElse(null));
+        if (ownerId == null) {
+            throw new CustomException(ErrorCode.STORE_NOT_FOUND);
+        }
+        return ownerId;
+    }
+
+    public Long getStoreId(Long menuId) {
+        Long storeId = menuStoreCache.get(menuId, id -> menuRepository.findStoreIdByMenuId(id).orElse(null));
+        if (storeId == null) {
+            throw new CustomException(ErrorCode.MENU_NOT_FOUND);
+        }
+        return storeId;
+    }
+
+    public Long getOwnerIdByMenuId(Long menuId) {
+        return getOwnerId(getStoreId(menuId));
+    }
+
+    public void evictStore(Long storeId) {
+        CacheInvalidation.evictNowAndAfterCommit(storeOwnerCache, storeId);
+    }
+
+    public void evictMenu(Long menuId) {
+        CacheInvalidation.evictNowAndAfterCommit(menuStoreCache, menuId);
+    }
+
+    public CacheStats storeOwnerStats() {
+        return storeOwnerCache.stats();
+    }
+
+    public CacheStats menuStoreStats() {
+        return menuStoreCache.stats();
+    }
+}
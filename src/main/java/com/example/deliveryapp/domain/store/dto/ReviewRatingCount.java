@@ -3,15 +3,15 @@ package com.example.deliveryapp.domain.store.dto;
 import lombok.Getter;
 
 @Getter
-public class ReviewStatistics {
+public class ReviewRatingCount {
 
     private final Long storeId;
+    private final Integer rating;
     private final Long count;
-    private final Double averageRating;
 
-    public ReviewStatistics(Long storeId, Long count, Double averageRating) {
+    public ReviewRatingCount(Long storeId, Integer rating, Long count) {
         this.storeId = storeId;
+        this.rating = rating;
         this.count = count;
-        this.averageRating = averageRating;
     }
 }
@@ -0,0 +1,90 @@
+package com.example.deliveryapp.domain.store.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// 가게별 리뷰 집계 (리뷰 생성/수정/삭제 트랜잭션에서 함께 갱신)
+@Entity
+@Getter
+@Table(name = "store_review_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreReviewStats implements Persistable<Long> {
+
+    @Id
+    private Long storeId;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private long oneStarCount;
+
+    @Column(nullable = false)
+    private long twoStarCount;
+
+    @Column(nullable = false)
+    private long threeStarCount;
+
+    @Column(nullable = false)
+    private long fourStarCount;
+
+    @Column(nullable = false)
+    private long fiveStarCount;
+
+    // 식별자를 직접 할당하므로 save 시 불필요한 SELECT 를 막기 위해 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    public StoreReviewStats(Long storeId) {
+        this.storeId = storeId;
+    }
+
+    @Override
+    public Long getId() {
+        return storeId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void reset() {
+        this.reviewCount = 0;
+        this.ratingSum = 0;
+        this.oneStarCount = 0;
+        this.twoStarCount = 0;
+        this.threeStarCount = 0;
+        this.fourStarCount = 0;
+        this.fiveStarCount = 0;
+    }
+
+    public void addRating(int rating, long count) {
+        this.reviewCount += count;
+        this.ratingSum += rating * count;
+        switch (rating) {
+            case 1 -> this.oneStarCount += count;
+            case 2 -> this.twoStarCount += count;
+            case 3 -> this.threeStarCount += count;
+            case 4 -> this.fourStarCount += count;
+            case 5 -> this.fiveStarCount += count;
+            default -> { }
+        }
+    }
+
+    public double getAverageRating() {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+}
@@ -9,11 +9,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
     Optional<Store> findByIdAndDeletedAtIsNull(Long id);
 
+    // 리뷰 집계 재계산 대상 (삭제된 가게 포함)
+    @Query("SELECT s.id FROM Store s ORDER BY s.id")
+    List<Long> findAllIds();
+
     @Query("SELECT s.user.id FROM Store s WHERE s.id = :id AND s.deletedAt IS NULL")
     Optional<Long> findOwnerIdByStoreIdIfActive(@Param("id") Long id);
 
@@ -24,11 +29,6 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
                 .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
     }
 
-    default Long findOwnerIdByStoreIdOrThrow(Long id) {
-        return findOwnerIdByStoreIdIfActive(id)
-                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
-    }
-
     long countByUserIdAndIsDeletedFalse(Long userId);
 
     @Query("SELECT s FROM Store s WHERE s.status != 'PERMANENTLY_CLOSED'")
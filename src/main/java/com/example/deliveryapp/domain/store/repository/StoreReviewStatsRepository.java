@@ -0,0 +1,32 @@
+package com.example.deliveryapp.domain.store.repository;
+
+import com.example.deliveryapp.domain.store.entity.StoreReviewStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface StoreReviewStatsRepository extends JpaRepository<StoreReviewStats, Long> {
+
+    // 읽고 쓰는 대신 증감 UPDATE 한 번으로 반영 (동시 리뷰 작성 시 유실 방지)
+    @Modifying
+    @Query("UPDATE StoreReviewStats s SET " +
+            "s.reviewCount = s.reviewCount + :delta, " +
+            "s.ratingSum = s.ratingSum + :rating * :delta, " +
+            "s.oneStarCount = s.oneStarCount + CASE WHEN :rating = 1 THEN :delta ELSE 0 END, " +
+            "s.twoStarCount = s.twoStarCount + CASE WHEN :rating = 2 THEN :delta ELSE 0 END, " +
+            "s.threeStarCount = s.threeStarCount + CASE WHEN :rating = 3 THEN :delta ELSE 0 END, " +
+            "s.fourStarCount = s.fourStarCount + CASE WHEN :rating = 4 THEN :delta ELSE 0 END, " +
+            "s.fiveStarCount = s.fiveStarCount + CASE WHEN :rating = 5 THEN :delta ELSE 0 END " +
+            "WHERE s.storeId = :storeId")
+    int applyRating(@Param("storeId") Long storeId, @Param("rating") int rating, @Param("delta") long delta);
+
+    // 재계산하는 동안 리뷰 반영(applyRating)이 끼어들지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoreReviewStats s WHERE s.storeId = :storeId")
+    Optional<StoreReviewStats> findByIdForUpdate(@Param("storeId") Long storeId);
+}
@@ -0,0 +1,150 @@
+package com.example.deliveryapp.domain.store.service;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.review.repository.ReviewRepository;
+import com.example.deliveryapp.domain.store.dto.ReviewRatingCount;
+import com.example.deliveryapp.domain.store.entity.StoreReviewStats;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.example.deliveryapp.domain.store.repository.StoreReviewStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class StoreReviewStatsService {
+
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+
+    private final StoreReviewStatsRepository storeReviewStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public StoreReviewStatsService(
+            StoreReviewStatsRepository storeReviewStatsRepository,
+            ReviewRepository reviewRepository,
+            StoreRepository storeRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.storeReviewStatsRepository = storeReviewStatsRepository;
+        this.reviewRepository = reviewRepository;
+        this.storeRepository = storeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public void initialize(Long storeId) {
+        storeReviewStatsRepository.save(new StoreReviewStats(storeId));
+    }
+
+    @Transactional
+    public void addRating(Long storeId, int rating) {
+        validateRating(rating);
+        ensureStatsRow(storeId);
+        storeReviewStatsRepository.applyRating(storeId, rating, 1);
+    }
+
+    @Transactional
+    public void removeRating(Long storeId, int rating) {
+        validateRating(rating);
+        ensureStatsRow(storeId);
+        storeReviewStatsRepository.applyRating(storeId, rating, -1);
+    }
+
+    @Transactional
+    public void changeRating(Long storeId, int previousRating, int newRating) {
+        if (previousRating == newRating) {
+            return;
+        }
+        validateRating(previousRating);
+        validateRating(newRating);
+        ensureStatsRow(storeId);
+        storeReviewStatsRepository.applyRating(storeId, previousRating, -1);
+        storeReviewStatsRepository.applyRating(storeId, newRating, 1);
+    }
+
+    // 집계 행이 생기기 전부터 있던 가게는 처음 조회할 때 리뷰 테이블에서 세어 생성
+    @Transactional(readOnly = true)
+    public Map<Long, StoreReviewStats> findAllByStoreIds(List<Long> storeIds) {
+        Map<Long, StoreReviewStats> statsMap = storeReviewStatsRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(StoreReviewStats::getStoreId, Function.identity()));
+        storeIds.stream()
+                .filter(storeId -> !statsMap.containsKey(storeId))
+                .forEach(storeId -> createStatsRow(storeId).ifPresent(stats -> statsMap.put(storeId, stats)));
+        return statsMap;
+    }
+
+    // 집계 보정용 전체 재계산 (기본 비활성, store.review-stats.rebuild-cron 으로 활성화)
+    // 가게마다 집계 행을 잠근 트랜잭션에서 다시 세어 덮어씀, 리뷰가 없는 가게는 0 으로 초기화하고 행이 없으면 생성
+    @Scheduled(cron = "${store.review-stats.rebuild-cron:-}")
+    public int rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        List<Long> storeIds = storeRepository.findAllIds();
+        for (Long storeId : storeIds) {
+            ensureStatsRow(storeId);
+            transactionTemplate.executeWithoutResult(status -> rebuildStore(storeId));
+        }
+
+        log.info("[리뷰 집계 재계산] 완료 stores={}, elapsed={}ms",
+                storeIds.size(), System.currentTimeMillis() - startTime);
+        return storeIds.size();
+    }
+
+    // 잠근 뒤에 세므로 그 사이 커밋된 리뷰는 포함되고, 아직 커밋되지 않은 리뷰의 applyRating 은 잠금이 풀린 뒤 반영됨
+    private StoreReviewStats rebuildStore(Long storeId) {
+        StoreReviewStats stats = storeReviewStatsRepository.findByIdForUpdate(storeId)
+                .orElseThrow(() -> new IllegalStateException("리뷰 집계 행이 없습니다: storeId=" + storeId));
+        stats.reset();
+        for (ReviewRatingCount ratingCount : reviewRepository.countByRatingForStore(storeId)) {
+            stats.addRating(ratingCount.getRating(), ratingCount.getCount());
+        }
+        return stats;
+    }
+
+    // 없는 행을 바깥 트랜잭션에서 먼저 UPDATE 하면 gap lock 때문에 새 트랜잭션의 INSERT 가 막히므로 잠금 없는 조회로 확인
+    private void ensureStatsRow(Long storeId) {
+        if (!storeReviewStatsRepository.existsById(storeId)) {
+            createStatsRow(storeId);
+        }
+    }
+
+    // 집계 행이 없는 기존 가게는 별도 트랜잭션에서 행을 만들고, 그 행을 잠근 채 이미 커밋된 리뷰로 채움
+    // 호출한 트랜잭션의 리뷰는 아직 커밋 전이라 세지 않으므로 이후 applyRating 으로 한 번만 반영됨
+    // 동시에 생성하다 중복 키로 실패한 쪽은 먼저 생긴 행을 그대로 사용 (바깥 트랜잭션은 롤백되지 않음)
+    private Optional<StoreReviewStats> createStatsRow(Long storeId) {
+        try {
+            return Optional.ofNullable(newTransactionTemplate.execute(status -> {
+                storeReviewStatsRepository.saveAndFlush(new StoreReviewStats(storeId));
+                return rebuildStore(storeId);
+            }));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[리뷰 집계] 다른 요청이 먼저 집계 행을 생성 storeId={}", storeId);
+            return Optional.empty();
+        }
+    }
+
+    // 범위를 벗어난 별점은 어느 구간에도 들어가지 않아 평균과 분포가 어긋나므로 반영 전에 거절
+    private static void validateRating(int rating) {
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            throw new CustomException(ErrorCode.INVALID_REVIEW_RATING);
+        }
+    }
+}
@@ -5,8 +5,7 @@ import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.menu.dto.response.MenuResponse;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
 import com.example.deliveryapp.domain.order.repository.OrderRepository;
-import com.example.deliveryapp.domain.review.repository.ReviewRepository;
-import com.example.deliveryapp.domain.store.dto.ReviewStatistics;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
 import com.example.deliveryapp.domain.store.dto.request.StoreSaveRequest;
 import com.example.deliveryapp.domain.store.dto.request.StoreUpdateRequest;
 import com.example.deliveryapp.domain.store.dto.response.StorePageResponse;
@@ -14,8 +13,10 @@ import com.example.deliveryapp.domain.store.dto.response.StoreResponse;
 import com.example.deliveryapp.domain.store.dto.response.StoreSaveResponse;
 import com.example.deliveryapp.domain.store.dto.response.StoreUpdateResponse;
 import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.entity.StoreReviewStats;
 import com.example.deliveryapp.domain.store.enums.StoreStatus;
 import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.example.deliveryapp.domain.user.cache.UserRoleCache;
 import com.example.deliveryapp.domain.user.entity.User;
 import com.example.deliveryapp.domain.user.enums.UserRole;
 import com.example.deliveryapp.domain.user.repository.UserRepository;
@@ -36,19 +37,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StoreService {
     private final StoreRepository storeRepository;
-    private final ReviewRepository reviewRepository;
+    private final StoreReviewStatsService storeReviewStatsService;
     private final MenuRepository menuRepository;
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
+    private final StoreOwnershipCache storeOwnershipCache;
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     // 가게 생성
     @Transactional
     public StoreSaveResponse save(Long userId, StoreSaveRequest dto) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        if (user.getRole() != UserRole.OWNER) {
+        // 권한은 캐시로 확인, 사용자 엔티티는 FK 참조만 필요하므로 조회하지 않음
+        if (userRoleCache.getActiveRole(userId) != UserRole.OWNER) {
             throw new CustomException(ErrorCode.INVALID_USER_ROLE);
         }
 
@@ -59,8 +61,10 @@ public class StoreService {
         LocalTime openTime = LocalTime.parse(dto.getOpenTime(), FORMATTER);
         LocalTime closeTime = LocalTime.parse(dto.getCloseTime(), FORMATTER);
         StoreStatus status = StoreStatus.valueOf(dto.getStatus());
+        User user = userRepository.getReferenceById(userId);
         Store store = new Store(dto.getName(), openTime, closeTime, dto.getMinimumOrderPrice(), status, user);
         storeRepository.save(store);
+        storeReviewStatsService.initialize(store.getId());
         return StoreSaveResponse.of(store, user);
     }
 
@@ -73,16 +77,14 @@ public class StoreService {
                 .map(Store::getId)
                 .collect(Collectors.toList());
 
-        List<ReviewStatistics> reviewStatisticsList = reviewRepository.countAndAverageRatingByStoreIds(storeIds);
-        Map<Long, ReviewStatistics> reviewStatisticsMap = reviewStatisticsList.stream()
-                .collect(Collectors.toMap(ReviewStatistics::getStoreId, dto -> dto));
+        Map<Long, StoreReviewStats> reviewStatsMap = storeReviewStatsService.findAllByStoreIds(storeIds);
 
         return storePage.map(store -> {
-            ReviewStatistics statisticsDto = reviewStatisticsMap.getOrDefault(store.getId(), new ReviewStatistics(store.getId(), 0L, 0.0));
+            StoreReviewStats reviewStats = reviewStatsMap.get(store.getId());
             return StorePageResponse.of(
                     store,
-                    statisticsDto.getAverageRating(),
-                    statisticsDto.getCount()
+                    reviewStats != null ? reviewStats.getAverageRating() : 0.0,
+                    reviewStats != null ? reviewStats.getReviewCount() : 0L
             );
         });
     }
@@ -107,8 +109,7 @@ public class StoreService {
         Store findStore = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
 
-        User findUser = userRepository.findById(userId).
-                orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        userRoleCache.getActiveRole(userId); // 탈퇴한 사용자면 USER_NOT_FOUND
 
         if (!userId.equals(findStore.getUser().getId())) {
             throw new CustomException(ErrorCode.INVALID_USER_UPDATE_STORE);
@@ -123,7 +124,7 @@ public class StoreService {
         StoreStatus status = StoreStatus.valueOf(dto.getStatus());
 
         findStore.update(dto.getName(), openTime, closeTime, dto.getMinimumOrderPrice(), status);
-        return StoreUpdateResponse.of(findStore, findUser);
+        return StoreUpdateResponse.of(findStore, findStore.getUser());
     }
 
     // 가게 삭제
@@ -147,7 +148,7 @@ public class StoreService {
         store.closeStore();
         store.setDeletedAt(LocalDateTime.now());
         storeRepository.save(store);
-
+        storeOwnershipCache.evictStore(storeId);
     }
 
 }
@@ -0,0 +1,58 @@
+package com.example.deliveryapp.domain.user.cache;
+
+import com.example.deliveryapp.domain.common.cache.CacheInvalidation;
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 탈퇴하지 않은 사용자의 권한 캐시 (장바구니, 가게 등록/수정 권한 검사용)
+// 탈퇴(soft delete) 시 UserService 에서 evict, 없는 사용자는 캐시하지 않음
+@Component
+public class UserRoleCache {
+
+    private static final String CACHE_NAME = "userRole";
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserRole> cache;
+
+    public UserRoleCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.user-role.maximum-size:10000}") long maximumSize,
+            @Value("${cache.user-role.expire-after-write-seconds:600}") long expireAfterWriteSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds)) // 다른 인스턴스에서 탈퇴한 경우의 상한
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public UserRole getActiveRole(Long userId) {
+        UserRole role = cache.get(userId, id -> userRepository.findActiveRoleById(id).orElse(null));
+        if (role == null) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        return role;
+    }
+
+    public void evict(Long userId) {
+        CacheInvalidation.evictNowAndAfterCommit(cache, userId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
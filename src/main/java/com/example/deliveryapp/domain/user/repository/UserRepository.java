@@ -5,6 +5,10 @@ import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.user.entity.User;
 import com.example.deliveryapp.domain.user.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -17,6 +21,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByIdAndRole(Long userId, UserRole role);
 
+    @Query("SELECT u.role FROM User u WHERE u.id = :userId AND u.deletedAt IS NULL")
+    Optional<UserRole> findActiveRoleById(@Param("userId") Long userId);
+
+    // 읽은 뒤 비밀번호가 바뀌었다면 덮어쓰지 않도록 이전 해시와 같을 때만 갱신
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePassword(@Param("userId") Long userId,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
     default User findByIdAndUserRoleOrThrow(Long id) {
         return findByIdAndRole(id, UserRole.USER)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
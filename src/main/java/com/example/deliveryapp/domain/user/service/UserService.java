@@ -3,8 +3,10 @@ package com.example.deliveryapp.domain.user.service;
 
 import com.example.deliveryapp.config.JwtUtil;
 import com.example.deliveryapp.config.PasswordEncoder;
+import com.example.deliveryapp.config.PasswordHashExecutor;
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.user.cache.UserRoleCache;
 import com.example.deliveryapp.domain.user.dto.request.SignInRequest;
 import com.example.deliveryapp.domain.user.dto.request.SignUpRequest;
 import com.example.deliveryapp.domain.user.dto.request.UserDeleteRequest;
@@ -15,20 +17,25 @@ import com.example.deliveryapp.domain.user.entity.User;
 import com.example.deliveryapp.domain.user.enums.UserRole;
 import com.example.deliveryapp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
     private final JwtUtil jwtUtil;
+    private final UserRoleCache userRoleCache;
 
-    @Transactional
+    // 회원가입/로그인은 BCrypt 를 전용 풀에서 기다리는 동안 DB 커넥션을 쥐고 있지 않도록 트랜잭션을 걸지 않음
+    // (조회, 저장은 각 repository 호출 단위 트랜잭션)
     public SignUpResponse signUp(SignUpRequest signUpRequest) {
         if (userRepository.existsByEmailAndDeletedAtIsNull(signUpRequest.getEmail())) {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
@@ -41,7 +48,7 @@ public class UserService {
 
         User newUser = new User(
                 signUpRequest.getEmail(),
-                passwordEncoder.encode(signUpRequest.getPassword()),
+                passwordHashExecutor.execute(() -> passwordEncoder.encode(signUpRequest.getPassword())),
                 signUpRequest.getName(),
                 userRole
         );
@@ -53,7 +60,6 @@ public class UserService {
         return new SignUpResponse(bearerToken);
     }
 
-    @Transactional
     public SignInResponse signIn(SignInRequest signInRequest) {
         User user = userRepository.findByEmail(signInRequest.getEmail()).orElseThrow(
                 () -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -62,10 +68,12 @@ public class UserService {
             throw new CustomException(ErrorCode.EMAIL_ALREADY_DELETED);
         }
 
-        if (!passwordEncoder.matches(signInRequest.getPassword(), user.getPassword())) {
+        if (!passwordHashExecutor.execute(() -> passwordEncoder.matches(signInRequest.getPassword(), user.getPassword()))) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
 
+        rehashIfNeeded(user, signInRequest.getPassword());
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getName(), user.getRole());
 
         return new SignInResponse(bearerToken);
@@ -87,6 +95,20 @@ public class UserService {
 
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        userRoleCache.evict(id);
+    }
+
+    // 평문 비밀번호를 알 수 있는 로그인 성공 시점에만 낮은 cost 의 해시를 목표 cost 로 다시 해시
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            String newPassword = passwordHashExecutor.execute(() -> passwordEncoder.encode(rawPassword));
+            userRepository.updatePassword(user.getId(), user.getPassword(), newPassword);
+        } catch (CustomException e) { // 해시 풀이 바쁘면 로그인은 그대로 성공시키고 다음 로그인 때 다시 시도
+            log.info("[비밀번호 재해시] 건너뜀 userId={}, reason={}", user.getId(), e.getErrorCode());
+        }
     }
 
     private User getUserById(long userId) {
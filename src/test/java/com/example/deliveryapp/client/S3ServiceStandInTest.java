@@ -0,0 +1,82 @@
+package com.example.deliveryapp.client;
+
+import io.awspring.cloud.s3.S3Operations;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+// 실제 S3 API 를 흉내내는 로컬 서버에 업로드해서 단일/multipart 경로를 확인
+// ./gradlew test -Ps3.standin.endpoint=http://localhost:9000 (build.gradle 참고)
+@EnabledIfSystemProperty(named = "s3.standin.endpoint", matches = ".+")
+class S3ServiceStandInTest {
+
+    private static final String BUCKET = "delivery-app-test";
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private S3Client s3Client;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create(System.getProperty("s3.standin.endpoint")))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                        System.getProperty("s3.standin.access-key", "test"),
+                        System.getProperty("s3.standin.secret-key", "test"))))
+                .forcePathStyle(true)
+                .build();
+        try {
+            s3Client.createBucket(builder -> builder.bucket(BUCKET));
+        } catch (BucketAlreadyOwnedByYouException ignored) {
+        }
+
+        s3Service = new S3Service(mock(S3Operations.class), s3Client, new SimpleMeterRegistry(),
+                20L * 1024 * 1024, PART_SIZE, PART_SIZE);
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.close();
+    }
+
+    @Test
+    void 임계값_이하는_한_번에_업로드() {
+        byte[] contents = new byte[1024];
+
+        String fileName = s3Service.uploadImage("menu", new MockMultipartFile("file", "image.jpg", "image/jpeg", contents));
+
+        assertEquals(contents.length, head(fileName).contentLength());
+    }
+
+    @Test
+    void 임계값을_넘으면_multipart_로_업로드() {
+        byte[] contents = new byte[PART_SIZE * 2 + 1024];
+
+        String fileName = s3Service.uploadImage("menu", new MockMultipartFile("file", "image.jpg", "image/jpeg", contents));
+
+        HeadObjectResponse head = head(fileName);
+        assertEquals(contents.length, head.contentLength());
+        assertEquals("image/jpeg", head.contentType());
+    }
+
+    private HeadObjectResponse head(String fileName) {
+        return s3Client.headObject(builder -> builder.bucket(BUCKET).key("menu/" + fileName));
+    }
+}
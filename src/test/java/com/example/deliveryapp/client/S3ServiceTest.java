@@ -2,20 +2,31 @@ package com.example.deliveryapp.client;
 
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
-import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Operations;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
-import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,12 +35,25 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class S3ServiceTest {
 
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
     @Mock
     private S3Operations s3Operations;
 
-    @InjectMocks
+    @Mock
+    private S3Client s3Client;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private S3Service s3Service;
 
+    @BeforeEach
+    void setUp() {
+        // 최대 10MB, 1MB 초과부터 5MB part 로 multipart 업로드
+        s3Service = new S3Service(s3Operations, s3Client, meterRegistry, 10L * 1024 * 1024, 1024 * 1024, PART_SIZE);
+        ReflectionTestUtils.setField(s3Service, "bucket", "bucket");
+    }
+
     @Nested
     @Order(1)
     @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -79,7 +103,97 @@ class S3ServiceTest {
 
             // then
             assertNotNull(result);
-            verify(s3Operations, times(1)).upload(any(), anyString(), any(InputStream.class), any(ObjectMetadata.class));
+            ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+            verify(s3Client, times(1)).putObject(captor.capture(), any(RequestBody.class));
+            assertEquals(8L, captor.getValue().contentLength());
+            assertEquals("menu/" + result, captor.getValue().key());
+            verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+            assertEquals(1, meterRegistry.get("s3.upload").tag("mode", "single").tag("outcome", "success").timer().count());
+            assertEquals(8.0, meterRegistry.get("s3.upload.size").summary().totalAmount());
+        }
+
+        @Test
+        @Order(4)
+        void 이미지_업로드_최대_크기_초과_시_읽지_않고_실패() throws Exception {
+            // given
+            MultipartFile mockFile = mock(MultipartFile.class);
+            when(mockFile.isEmpty()).thenReturn(false);
+            when(mockFile.getSize()).thenReturn(10L * 1024 * 1024 + 1);
+
+            // when & then
+            CustomException customException = assertThrows(CustomException.class,
+                    () -> s3Service.uploadImage("menu", mockFile)
+            );
+            assertEquals(ErrorCode.FILE_TOO_LARGE, customException.getErrorCode());
+            verify(mockFile, never()).getInputStream();
+            verifyNoInteractions(s3Client);
+            assertEquals(1.0, meterRegistry.get("s3.upload.rejected").tag("reason", "too-large").counter().count());
+        }
+
+        @Test
+        @Order(5)
+        void 임계값을_넘으면_part_단위로_나눠_업로드() {
+            // given
+            MultipartFile file = new MockMultipartFile("file", "image.jpg", "image/jpeg", new byte[PART_SIZE + 100]);
+            when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+            when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                    .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+            // when
+            s3Service.uploadImage("menu", file);
+
+            // then
+            ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+            verify(s3Client, times(2)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+            assertEquals(List.of((long) PART_SIZE, 100L),
+                    partCaptor.getAllValues().stream().map(UploadPartRequest::contentLength).toList());
+
+            ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+                    ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+            verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+            assertEquals("upload-1", completeCaptor.getValue().uploadId());
+            assertEquals(2, completeCaptor.getValue().multipartUpload().parts().size());
+            verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+            assertEquals(1, meterRegistry.get("s3.upload").tag("mode", "multipart").tag("outcome", "success").timer().count());
+        }
+
+        @Test
+        @Order(6)
+        void part_업로드에_실패하면_multipart_업로드를_중단() {
+            // given
+            MultipartFile file = new MockMultipartFile("file", "image.jpg", "image/jpeg", new byte[PART_SIZE + 100]);
+            when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+            when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                    .thenThrow(S3Exception.builder().message("failed").build());
+
+            // when & then
+            CustomException customException = assertThrows(CustomException.class,
+                    () -> s3Service.uploadImage("menu", file)
+            );
+            assertEquals(ErrorCode.FILE_UPLOAD_FAILED, customException.getErrorCode());
+            verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+            verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+            assertEquals(1, meterRegistry.get("s3.upload").tag("mode", "multipart").tag("outcome", "failure").timer().count());
+        }
+
+        @Test
+        @Order(7)
+        void 서버에서_만든_이미지를_지정한_이름으로_업로드() {
+            // given
+            byte[] contents = "jpeg".getBytes();
+
+            // when
+            s3Service.uploadImage("menu", "thumbnail/image.jpg", contents, "image/jpeg");
+
+            // then
+            ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+            verify(s3Client, times(1)).putObject(captor.capture(), any(RequestBody.class));
+            assertEquals("menu/thumbnail/image.jpg", captor.getValue().key());
+            assertEquals("image/jpeg", captor.getValue().contentType());
+            assertEquals(4L, captor.getValue().contentLength());
+            assertEquals(1, meterRegistry.get("s3.upload").tag("mode", "bytes").tag("outcome", "success").timer().count());
         }
     }
 
@@ -0,0 +1,49 @@
+package com.example.deliveryapp.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SignedUrlCacheTest {
+
+    @Mock
+    private S3Service s3Service;
+
+    private SignedUrlCache signedUrlCache;
+
+    @BeforeEach
+    void setUp() {
+        signedUrlCache = new SignedUrlCache(s3Service, new SimpleMeterRegistry(), 100L);
+    }
+
+    @Test
+    void 같은_키는_한_번만_서명한다() {
+        given(s3Service.createSignedUrl("menu", "image.jpg")).willReturn("https://signedUrl");
+
+        assertEquals("https://signedUrl", signedUrlCache.get("menu", "image.jpg"));
+        assertEquals("https://signedUrl", signedUrlCache.get("menu", "image.jpg"));
+
+        verify(s3Service, times(1)).createSignedUrl("menu", "image.jpg");
+        assertEquals(0.5, signedUrlCache.stats().hitRate());
+    }
+
+    @Test
+    void 무효화_후_다시_서명한다() {
+        given(s3Service.createSignedUrl("menu", "image.jpg")).willReturn("https://signedUrl");
+
+        signedUrlCache.get("menu", "image.jpg");
+        signedUrlCache.evict("menu", "image.jpg");
+        signedUrlCache.get("menu", "image.jpg");
+
+        verify(s3Service, times(2)).createSignedUrl("menu", "image.jpg");
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.deliveryapp.config;
+
+import com.example.deliveryapp.domain.common.dto.AuthUser;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil("test-secret-key-test-secret-key-test");
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@em.com", "user", UserRole.OWNER));
+    }
+
+    @Test
+    void 토큰에서_AuthUser_를_만든다() {
+        AuthTokenCache authTokenCache = new AuthTokenCache(jwtUtil, new SimpleMeterRegistry(), false, 100L);
+
+        AuthUser authUser = authTokenCache.authenticate(token);
+
+        assertEquals(1L, authUser.getId());
+        assertEquals("user@em.com", authUser.getEmail());
+        assertEquals("user", authUser.getName());
+        assertEquals(UserRole.OWNER, authUser.getUserRole());
+    }
+
+    @Test
+    void 같은_토큰은_한_번만_검증한다() {
+        AuthTokenCache authTokenCache = new AuthTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 100L);
+
+        AuthUser first = authTokenCache.authenticate(token);
+        AuthUser second = authTokenCache.authenticate(token);
+
+        assertSame(first, second);
+        assertEquals(1L, authTokenCache.stats().hitCount());
+    }
+
+    @Test
+    void 서명이_틀린_토큰은_캐시하지_않고_예외를_던진다() {
+        AuthTokenCache authTokenCache = new AuthTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 100L);
+        JwtUtil otherJwtUtil = jwtUtil("other-secret-key-other-secret-key-other");
+        String forged = otherJwtUtil.substringToken(otherJwtUtil.createToken(1L, "user@em.com", "user", UserRole.OWNER));
+
+        assertThrows(SignatureException.class, () -> authTokenCache.authenticate(forged));
+        assertThrows(SignatureException.class, () -> authTokenCache.authenticate(forged));
+        assertEquals(0L, authTokenCache.stats().hitCount());
+    }
+
+    private static JwtUtil jwtUtil(String secret) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret.getBytes()));
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.deliveryapp.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MultipartConfigTest {
+
+    @Test
+    void 업로드_파일_상한은_S3_업로드_상한과_같다() {
+        MultipartConfigElement element = new MultipartConfig().multipartConfigElement(10L * 1024 * 1024, 1024 * 1024);
+
+        assertEquals(10L * 1024 * 1024, element.getMaxFileSize());
+        assertEquals(11L * 1024 * 1024, element.getMaxRequestSize());
+    }
+}
@@ -1,17 +1,12 @@
 package com.example.deliveryapp.config;
 
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private PasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(4);
 
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -25,5 +20,25 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
-}
 
+    @Test
+    void 목표_cost_보다_낮은_해시만_다시_해시_대상이다() {
+        // given
+        PasswordEncoder targetEncoder = new PasswordEncoder(6);
+        String lowCostPassword = passwordEncoder.encode("testPassword");
+        String targetCostPassword = targetEncoder.encode("testPassword");
+
+        // when & then
+        assertTrue(lowCostPassword.startsWith("$2a$04$"));
+        assertTrue(targetEncoder.needsRehash(lowCostPassword));
+        assertFalse(targetEncoder.needsRehash(targetCostPassword));
+        assertFalse(passwordEncoder.needsRehash(targetCostPassword));
+        assertFalse(targetEncoder.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void 허용_범위를_벗어난_cost_는_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> new PasswordEncoder(3));
+        assertThrows(IllegalArgumentException.class, () -> new PasswordEncoder(32));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.deliveryapp.config;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // 스레드 1개, 대기열 1개
+    private final PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(meterRegistry, 1, 1, 500);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashExecutor.shutdown();
+    }
+
+    @Test
+    void 전용_풀에서_실행한_결과를_반환한다() {
+        String threadName = passwordHashExecutor.execute(() -> Thread.currentThread().getName());
+
+        assertTrue(threadName.startsWith("password-hash-"));
+        assertEquals(1, meterRegistry.get("password.hash").timer().count());
+    }
+
+    @Test
+    void 풀과_대기열이_가득_차면_기다리지_않고_거절한다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> passwordHashExecutor.execute(() -> {
+            started.countDown();
+            return await(release);
+        }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> passwordHashExecutor.execute(() -> await(release)));
+        waitUntilQueued();
+
+        long startedAt = System.nanoTime();
+        CustomException exception = assertThrows(CustomException.class,
+                () -> passwordHashExecutor.execute(() -> true));
+
+        assertEquals(ErrorCode.PASSWORD_HASH_BUSY, exception.getErrorCode());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 100);
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("reason", "queue-full").counter().count());
+        assertEquals(1.0, meterRegistry.get("password.hash.queue.size").gauge().value());
+    }
+
+    @Test
+    void 대기_시간이_초과되면_거절한다() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> passwordHashExecutor.execute(() -> await(release)));
+
+        assertEquals(ErrorCode.PASSWORD_HASH_BUSY, exception.getErrorCode());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    void 작업에서_발생한_예외는_그대로_전달한다() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> passwordHashExecutor.execute(() -> {
+                    throw new CustomException(ErrorCode.INVALID_PASSWORD);
+                }));
+
+        assertEquals(ErrorCode.INVALID_PASSWORD, exception.getErrorCode());
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (passwordHashExecutor.getQueueSize() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
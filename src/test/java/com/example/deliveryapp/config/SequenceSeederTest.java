@@ -0,0 +1,89 @@
+package com.example.deliveryapp.config;
+
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.order.repository.OrderRepository;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 시퀀스 할당 상태가 다른 테스트와 섞이지 않도록 별도 컨텍스트(시작 시 초기화는 끔)에서 기존 행을 직접 넣고 초기화
+@DataJpaTest(properties = "persistence.sequence.seed-on-startup=false")
+@Import(SequenceSeeder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SequenceSeederTest {
+
+    private static final long EXISTING_ORDER_ID = 1000L;
+    private static final long EXISTING_MENU_ID = 500L;
+
+    @Autowired
+    private SequenceSeeder sequenceSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 기존_행이_있으면_시퀀스를_최대_id_이후로_올려_id_가_겹치지_않는다() {
+        User owner = userRepository.save(new User("owner@em.com", "pw", "owner", UserRole.OWNER));
+        User customer = userRepository.save(new User("user@em.com", "pw", "user", UserRole.USER));
+        Store store = storeRepository.save(new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                1000L, StoreStatus.OPEN, owner));
+        // IDENTITY 시절에 만들어진 주문
+        jdbcTemplate.update("INSERT INTO orders (id, user_id, store_id, order_state, total_price) VALUES (?, ?, ?, ?, 0)",
+                EXISTING_ORDER_ID, customer.getId(), store.getId(), OrderState.COMPLETED.name());
+        jdbcTemplate.update("INSERT INTO menus (id, name, price, store_id, image_variants_ready) VALUES (?, ?, ?, ?, false)",
+                EXISTING_MENU_ID, "menu", 10000L, store.getId());
+
+        // 기존 행이 있는 orders, menus 만 올림
+        assertEquals(2, sequenceSeeder.seed());
+
+        Order order = orderRepository.save(new Order(customer, store, OrderState.CART));
+        assertTrue(order.getId() > EXISTING_ORDER_ID);
+        assertEquals(2, orderRepository.count());
+
+        Menu menu = menuRepository.save(new Menu("new menu", 10000L, "description", store));
+        assertTrue(menu.getId() > EXISTING_MENU_ID);
+        assertEquals(2, menuRepository.count());
+
+        // 이미 올라가 있으면 다시 바꾸지 않음
+        assertEquals(0, sequenceSeeder.seed());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.deliveryapp.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CacheInvalidationTest {
+
+    private final Cache<Long, String> cache = Caffeine.newBuilder().build();
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+    @Test
+    void 트랜잭션_밖에서는_즉시_무효화한다() {
+        cache.put(1L, "before");
+
+        CacheInvalidation.evictNowAndAfterCommit(cache, 1L);
+
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    @Test
+    void 커밋_전에_다시_적재된_값은_커밋_이후_무효화한다() {
+        cache.put(1L, "before");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            CacheInvalidation.evictNowAndAfterCommit(cache, 1L);
+            assertNull(cache.getIfPresent(1L));
+
+            // 커밋 전에 다른 요청이 변경 전 데이터를 다시 적재
+            cache.put(1L, "stale");
+        });
+
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    @Test
+    void 롤백되면_커밋_이후_무효화는_하지_않는다() {
+        cache.put(1L, "before");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            CacheInvalidation.evictNowAndAfterCommit(cache, 1L);
+            cache.put(1L, "reloaded");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("reloaded", cache.getIfPresent(1L));
+    }
+
+    // 트랜잭션 동기화만 필요하므로 실제 자원 없이 시작/커밋/롤백만 수행
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.deliveryapp.domain.menu.cache;
+
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuOptionCatalogCacheTest {
+
+    @Mock
+    private OptionCategoryRepository optionCategoryRepository;
+
+    private MenuOptionCatalogCache menuOptionCatalogCache;
+
+    @BeforeEach
+    void setUp() {
+        menuOptionCatalogCache = new MenuOptionCatalogCache(optionCategoryRepository, new SimpleMeterRegistry(), 100L, 300L);
+    }
+
+    @Test
+    void 같은_메뉴는_한_번만_조회한다() {
+        given(optionCategoryRepository.findAllByMenuId(1L)).willReturn(List.of(mock(OptionCategory.class)));
+
+        MenuOptionCatalog first = menuOptionCatalogCache.get(1L);
+        MenuOptionCatalog second = menuOptionCatalogCache.get(1L);
+
+        assertSame(first, second);
+        assertEquals(1, first.getOptionCategories().size());
+        verify(optionCategoryRepository, times(1)).findAllByMenuId(1L);
+        assertEquals(1L, menuOptionCatalogCache.stats().hitCount());
+        assertEquals(1L, menuOptionCatalogCache.stats().missCount());
+    }
+
+    @Test
+    void 무효화_후_다시_조회한다() {
+        given(optionCategoryRepository.findAllByMenuId(1L)).willReturn(List.of());
+
+        menuOptionCatalogCache.get(1L);
+        menuOptionCatalogCache.evict(1L);
+        menuOptionCatalogCache.get(1L);
+
+        verify(optionCategoryRepository, times(2)).findAllByMenuId(1L);
+    }
+}
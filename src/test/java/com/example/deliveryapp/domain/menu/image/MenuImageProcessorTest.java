@@ -0,0 +1,170 @@
+package com.example.deliveryapp.domain.menu.image;
+
+import com.example.deliveryapp.client.S3Service;
+import com.example.deliveryapp.domain.menu.enums.MenuImageVariant;
+import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuImageProcessorTest {
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MenuImageProcessor menuImageProcessor;
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개, 대기열 1개
+        menuImageProcessor = new MenuImageProcessor(s3Service, menuRepository, transactionTemplate, meterRegistry,
+                "menu", 1, 1, 40_000_000L, 0.8f);
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuImageProcessor.shutdown();
+    }
+
+    @Test
+    void 한_번_디코딩해서_크기별_JPEG_를_저장하고_완료를_표시한다() throws Exception {
+        Path source = writeTempImage(2000, 1000);
+        willExecuteCallback();
+        given(menuRepository.markImageVariantsReady(1L, "image.png")).willReturn(1);
+
+        menuImageProcessor.process(1L, "image.png", source);
+
+        ArgumentCaptor<String> fileNameCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> contentsCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service, times(3)).uploadImage(eq("menu"), fileNameCaptor.capture(), contentsCaptor.capture(),
+                eq(MenuImageVariant.CONTENT_TYPE));
+        assertEquals(List.of("detail/image.jpg", "list/image.jpg", "thumbnail/image.jpg"), fileNameCaptor.getAllValues());
+
+        List<BufferedImage> variants = contentsCaptor.getAllValues().stream().map(MenuImageProcessorTest::read).toList();
+        assertEquals(List.of(1280, 480, 240), variants.stream().map(BufferedImage::getWidth).toList());
+        assertEquals(List.of(640, 240, 120), variants.stream().map(BufferedImage::getHeight).toList());
+
+        verify(menuRepository).markImageVariantsReady(1L, "image.png");
+        verify(s3Service, never()).deleteImage(any(), anyString());
+        assertFalse(Files.exists(source));
+    }
+
+    @Test
+    void 처리하는_동안_이미지가_바뀌면_저장한_크기별_이미지를_삭제한다() throws Exception {
+        Path source = writeTempImage(300, 300);
+        willExecuteCallback();
+        given(menuRepository.markImageVariantsReady(1L, "image.png")).willReturn(0);
+
+        menuImageProcessor.process(1L, "image.png", source);
+
+        for (MenuImageVariant variant : MenuImageVariant.values()) {
+            verify(s3Service).deleteImage("menu", variant.fileName("image.png"));
+        }
+    }
+
+    @Test
+    void 디코딩할_수_없는_파일은_저장하지_않고_건너뛴다() throws Exception {
+        Path source = Files.createTempFile("menu-image-test-", ".tmp");
+        Files.writeString(source, "not an image");
+
+        menuImageProcessor.process(1L, "image.png", source);
+
+        verifyNoInteractions(s3Service, menuRepository, transactionTemplate);
+        assertEquals(1.0, meterRegistry.get("menu.image.rejected").tag("reason", "failed").counter().count());
+        assertFalse(Files.exists(source));
+    }
+
+    @Test
+    void 해상도가_제한을_넘으면_디코딩하지_않는다() throws Exception {
+        Path source = writeTempImage(200, 200);
+
+        IOException exception = assertThrows(IOException.class,
+                () -> MenuImageProcessor.decode(source, 200 * 200 - 1));
+
+        assertTrue(exception.getMessage().contains("40000"));
+        Files.deleteIfExists(source);
+    }
+
+    @Test
+    void 작은_이미지는_늘리지_않고_RGB_로만_바꾼다() {
+        BufferedImage image = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = MenuImageProcessor.resize(image, 240);
+
+        assertEquals(100, resized.getWidth());
+        assertEquals(50, resized.getHeight());
+        assertEquals(BufferedImage.TYPE_INT_RGB, resized.getType());
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_전용_풀에서_처리한다() throws Exception {
+        willExecuteCallback();
+        given(menuRepository.markImageVariantsReady(1L, "image.png")).willReturn(1);
+        MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png", toPng(400, 200));
+
+        menuImageProcessor.submitAfterCommit(1L, "image.png", file);
+
+        verify(menuRepository, timeout(5000)).markImageVariantsReady(1L, "image.png");
+        verify(s3Service, times(3)).uploadImage(eq("menu"), anyString(), any(byte[].class), eq(MenuImageVariant.CONTENT_TYPE));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willExecuteCallback() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    private static Path writeTempImage(int width, int height) throws Exception {
+        Path source = Files.createTempFile("menu-image-test-", ".png");
+        Files.write(source, toPng(width, height));
+        return source;
+    }
+
+    private static byte[] toPng(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] contents) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(contents));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.deliveryapp.domain.menu.service;
+
+import com.example.deliveryapp.config.PersistenceConfig;
+import com.example.deliveryapp.domain.menu.dto.response.MenuImportRowResponse;
+import com.example.deliveryapp.domain.menu.dto.response.MenuImportSummaryResponse;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.support.QueryCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.deliveryapp.support.QueryCounter",
+        "menu.import.chunk-size=10"
+})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({MenuImportService.class, StoreOwnershipCache.class, SimpleMeterRegistry.class, PersistenceConfig.class})
+class MenuImportServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private MenuImportService menuImportService;
+
+    @Test
+    void chunk_마다_테이블별로_한_번의_insert_배치로_저장한다() {
+        User owner = em.persist(new User("owner@em.com", "pw", "owner", UserRole.OWNER));
+        Store store = em.persist(new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                1000L, StoreStatus.OPEN, owner));
+        em.flush();
+        em.clear();
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            body.append("{\"menuName\":\"menu").append(i).append("\",\"price\":10000,")
+                    .append("\"optionCategories\":[{\"optionCategoryName\":\"size\",\"isRequired\":true,")
+                    .append("\"isMultiple\":false,\"optionItems\":[")
+                    .append("{\"optionItemName\":\"small\",\"additionalPrice\":0},")
+                    .append("{\"optionItemName\":\"large\",\"additionalPrice\":500}]}]}\n");
+        }
+        List<MenuImportRowResponse> results = new ArrayList<>();
+
+        QueryCounter.clear();
+        MenuImportSummaryResponse summary = menuImportService.importMenus(owner.getId(), store.getId(),
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)), results::addAll);
+
+        // 가게 소유권 조회 1 번, 메뉴 30 + 옵션 카테고리 30 + 옵션 항목 60 행은 chunk(10 개) 마다 테이블별 배치 하나
+        assertEquals(30, summary.getCreatedCount());
+        assertTrue(results.stream().allMatch(MenuImportRowResponse::isSuccess));
+        assertEquals(1, QueryCounter.getSelectCount());
+        assertEquals(9, QueryCounter.getInsertCount());
+
+        Long menuCount = em.getEntityManager()
+                .createQuery("SELECT COUNT(m) FROM Menu m WHERE m.store.id = :storeId", Long.class)
+                .setParameter("storeId", store.getId())
+                .getSingleResult();
+        assertEquals(30L, menuCount);
+    }
+}
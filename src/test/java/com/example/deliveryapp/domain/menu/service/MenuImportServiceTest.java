@@ -0,0 +1,205 @@
+package com.example.deliveryapp.domain.menu.service;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.dto.response.MenuImportRowResponse;
+import com.example.deliveryapp.domain.menu.dto.response.MenuImportSummaryResponse;
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuImportServiceTest {
+
+    private static final String VALID_ROW = "{\"menuName\":\"menu\",\"price\":10000,\"description\":\"description\","
+            + "\"optionCategories\":[{\"optionCategoryName\":\"size\",\"isRequired\":true,\"isMultiple\":false,"
+            + "\"optionItems\":[{\"optionItemName\":\"large\",\"additionalPrice\":500}]}]}";
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private OptionCategoryRepository optionCategoryRepository;
+
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private MenuImportService menuImportService;
+
+    private final List<List<MenuImportRowResponse>> publishedChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        menuImportService = new MenuImportService(
+                storeRepository,
+                menuRepository,
+                optionCategoryRepository,
+                storeOwnershipCache,
+                transactionTemplate,
+                entityManager,
+                new ObjectMapper().registerModule(new ParameterNamesModule()),
+                Validation.buildDefaultValidatorFactory().getValidator()
+        );
+        ReflectionTestUtils.setField(menuImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(menuImportService, "maxLineLength", 1000);
+    }
+
+    @Test
+    void 가게_사장이_아니면_읽기_전에_실패한다() {
+        given(storeOwnershipCache.getOwnerId(1L)).willReturn(2L);
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuImportService.importMenus(1L, 1L, toStream(VALID_ROW), publishedChunks::add));
+
+        assertEquals(ErrorCode.NOT_STORE_OWNER, exception.getErrorCode());
+        verifyNoInteractions(transactionTemplate, menuRepository);
+        assertTrue(publishedChunks.isEmpty());
+    }
+
+    @Test
+    void 줄마다_결과를_chunk_단위로_보고한다() {
+        given(storeOwnershipCache.getOwnerId(1L)).willReturn(1L);
+        willExecuteCallback();
+        willAssignMenuIds();
+
+        String body = String.join("\n",
+                VALID_ROW,
+                "not json",
+                "",
+                "{\"menuName\":\"\",\"price\":null}",
+                VALID_ROW + "\r",
+                "{\"menuName\":\"" + "a".repeat(2000) + "\"}",
+                "null");
+
+        MenuImportSummaryResponse summary =
+                menuImportService.importMenus(1L, 1L, toStream(body), publishedChunks::add);
+
+        List<MenuImportRowResponse> results = publishedChunks.stream().flatMap(List::stream).toList();
+        assertEquals(List.of(1L, 2L, 4L, 5L, 6L, 7L), results.stream().map(MenuImportRowResponse::getLine).toList());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(ErrorCode.MENU_IMPORT_INVALID_ROW.getCode(), results.get(1).getErrorCode());
+        assertTrue(results.get(2).getMessage().startsWith("menuName: "), results.get(2).getMessage());
+        assertTrue(results.get(2).getMessage().contains(", price: "), results.get(2).getMessage());
+        assertTrue(results.get(3).isSuccess());
+        assertEquals(ErrorCode.MENU_IMPORT_ROW_TOO_LONG.getCode(), results.get(4).getErrorCode());
+        assertEquals(ErrorCode.MENU_IMPORT_INVALID_ROW.getCode(), results.get(5).getErrorCode());
+
+        assertEquals(3, publishedChunks.size());
+        assertEquals(6, summary.getTotalRows());
+        assertEquals(2, summary.getCreatedCount());
+        assertEquals(4, summary.getFailedCount());
+
+        // 유효한 행이 있는 chunk 만 저장하고 chunk 마다 영속성 컨텍스트를 비움
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(entityManager, times(2)).clear();
+        verify(storeOwnershipCache, times(1)).getOwnerId(1L);
+    }
+
+    @Test
+    void 저장에_실패한_chunk_만_실패로_보고하고_다음_chunk_를_계속_저장한다() {
+        given(storeOwnershipCache.getOwnerId(1L)).willReturn(1L);
+        willExecuteCallback();
+        given(menuRepository.saveAll(anyList()))
+                .willThrow(new IllegalStateException("db error"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        String body = String.join("\n", VALID_ROW, VALID_ROW, VALID_ROW);
+
+        MenuImportSummaryResponse summary =
+                menuImportService.importMenus(1L, 1L, toStream(body), publishedChunks::add);
+
+        List<MenuImportRowResponse> results = publishedChunks.stream().flatMap(List::stream).toList();
+        assertEquals(ErrorCode.MENU_IMPORT_SAVE_FAILED.getCode(), results.get(0).getErrorCode());
+        assertEquals(ErrorCode.MENU_IMPORT_SAVE_FAILED.getCode(), results.get(1).getErrorCode());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(1, summary.getCreatedCount());
+        assertEquals(2, summary.getFailedCount());
+    }
+
+    @Test
+    void 옵션_카테고리와_항목을_메뉴와_함께_저장한다() {
+        given(storeOwnershipCache.getOwnerId(1L)).willReturn(1L);
+        willExecuteCallback();
+
+        menuImportService.importMenus(1L, 1L, toStream(VALID_ROW), publishedChunks::add);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OptionCategory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(optionCategoryRepository).saveAll(captor.capture());
+        OptionCategory optionCategory = captor.getValue().get(0);
+        assertEquals("size", optionCategory.getName());
+        assertEquals("menu", optionCategory.getMenu().getName());
+        assertEquals(1, optionCategory.getOptionItems().size());
+        verify(storeRepository).getReferenceById(1L);
+    }
+
+    @Test
+    void 줄_길이_제한을_넘는_부분은_버퍼에_담지_않는다() throws Exception {
+        MenuImportService.BoundedLineReader reader =
+                new MenuImportService.BoundedLineReader(new StringReader("abcdef\r\nab\n"), 3);
+
+        assertEquals("abc", reader.readLine());
+        assertTrue(reader.isTruncated());
+        assertEquals("ab", reader.readLine());
+        assertFalse(reader.isTruncated());
+        assertNull(reader.readLine());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willExecuteCallback() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    private void willAssignMenuIds() {
+        AtomicLong sequence = new AtomicLong();
+        given(menuRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Menu> menus = invocation.getArgument(0);
+            menus.forEach(menu -> ReflectionTestUtils.setField(menu, "id", sequence.incrementAndGet()));
+            return menus;
+        });
+    }
+
+    private static InputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,19 +2,25 @@ package com.example.deliveryapp.domain.menu.service;
 
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
 import com.example.deliveryapp.domain.menu.dto.request.OptionCategoryRequest;
 import com.example.deliveryapp.domain.menu.dto.request.OptionItemRequest;
 import com.example.deliveryapp.domain.menu.dto.response.OptionCategoryResponse;
 import com.example.deliveryapp.domain.menu.entity.Menu;
 import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.entity.OptionItem;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
 import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
 import com.example.deliveryapp.domain.menu.repository.OptionItemRepository;
+import com.example.deliveryapp.domain.order.repository.OrderMenuOptionRepository;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 
@@ -36,6 +42,15 @@ class MenuOptionOwnerServiceTest {
     @Mock
     private OptionItemRepository optionItemRepository;
 
+    @Mock
+    private MenuOptionCatalogCache menuOptionCatalogCache;
+
+    @Mock
+    private OrderMenuOptionRepository orderMenuOptionRepository;
+
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
     @InjectMocks
     private MenuOptionOwnerService menuOptionOwnerService;
 
@@ -49,8 +64,8 @@ class MenuOptionOwnerServiceTest {
         @BeforeEach
         void setUp() {
             List<OptionItemRequest> optionItemRequests = List.of(
-                    new OptionItemRequest("item1", 1000L),
-                    new OptionItemRequest("item2", 2000L)
+                    new OptionItemRequest(null, "item1", 1000L),
+                    new OptionItemRequest(null, "item2", 2000L)
             );
             request = new OptionCategoryRequest(
                     "category1",
@@ -68,7 +83,7 @@ class MenuOptionOwnerServiceTest {
             Long userId = 1L;
             Long menuOwnerId = 2L;
 
-            given(menuRepository.findOwnerIdByMenuIdOrThrow(anyLong())).willReturn(menuOwnerId);
+            given(storeOwnershipCache.getOwnerIdByMenuId(anyLong())).willReturn(menuOwnerId);
 
             // when & then
             CustomException customException = assertThrows(CustomException.class,
@@ -82,7 +97,7 @@ class MenuOptionOwnerServiceTest {
         void 메뉴_옵션_저장_성공() {
             // given
             Long userId = 1L;
-            given(menuRepository.findOwnerIdByMenuIdOrThrow(anyLong())).willReturn(userId);
+            given(storeOwnershipCache.getOwnerIdByMenuId(anyLong())).willReturn(userId);
 
             Menu menu = mock(Menu.class);
             given(menuRepository.findActiveMenuByIdOrThrow(anyLong())).willReturn(menu);
@@ -112,8 +127,8 @@ class MenuOptionOwnerServiceTest {
         @BeforeEach
         void setUp() {
             List<OptionItemRequest> optionItemRequests = List.of(
-                    new OptionItemRequest("item1", 1000L),
-                    new OptionItemRequest("item2", 2000L)
+                    new OptionItemRequest(null, "item1", 1000L),
+                    new OptionItemRequest(null, "item2", 2000L)
             );
             request = new OptionCategoryRequest(
                     "category1",
@@ -131,7 +146,7 @@ class MenuOptionOwnerServiceTest {
             Long userId = 1L;
             Long menuOwnerId = 2L;
 
-            given(menuRepository.findOwnerIdByMenuIdOrThrow(anyLong())).willReturn(menuOwnerId);
+            given(storeOwnershipCache.getOwnerIdByMenuId(anyLong())).willReturn(menuOwnerId);
 
             // when & then
             CustomException customException = assertThrows(CustomException.class,
@@ -145,7 +160,7 @@ class MenuOptionOwnerServiceTest {
         void 메뉴_옵션_수정_성공() {
             // given
             Long userId = 1L;
-            given(menuRepository.findOwnerIdByMenuIdOrThrow(anyLong())).willReturn(userId);
+            given(storeOwnershipCache.getOwnerIdByMenuId(anyLong())).willReturn(userId);
 
             OptionCategory mockOptionCategory = spy(OptionCategory.class);
             given(mockOptionCategory.getId()).willReturn(1L);
@@ -165,6 +180,76 @@ class MenuOptionOwnerServiceTest {
             assertEquals(request.getOptionItems().size(), response.getOptionItems().size());
 
             verify(optionItemRepository, times(1)).saveAll(anyList());
+            verify(menuOptionCatalogCache, times(1)).evict(1L);
+        }
+
+        @Test
+        @Order(3)
+        void 메뉴_옵션_수정_바뀐_항목만_반영() {
+            // given
+            Long userId = 1L;
+            given(storeOwnershipCache.getOwnerIdByMenuId(anyLong())).willReturn(userId);
+
+            OptionItem item1 = optionItem(10L, "item1", 1000L);
+            OptionItem item2 = optionItem(11L, "item2", 2000L);
+            OptionItem item3 = optionItem(12L, "item3", 3000L);
+            OptionCategory optionCategory = new OptionCategory("category1", false, true, null, mock(Menu.class));
+            ReflectionTestUtils.setField(optionCategory, "id", 1L);
+            List.of(item1, item2, item3).forEach(optionCategory::addOptionItem);
+            given(optionCategoryRepository.findByIdAndMenuIdOrThrow(anyLong(), anyLong())).willReturn(optionCategory);
+
+            OptionCategoryRequest mergeRequest = new OptionCategoryRequest("category1", false, true, null, List.of(
+                    new OptionItemRequest(10L, "item1", 1500L), // id 로 찾아 가격만 수정
+                    new OptionItemRequest(null, "item2", 2000L), // 이름으로 찾고 변경 없음
+                    new OptionItemRequest(null, "item4", 500L) // 새 항목
+            ));
+
+            // when
+            OptionCategoryResponse response = menuOptionOwnerService.updateMenuOption(userId, 1L, 1L, mergeRequest);
+
+            // then
+            assertEquals(3, response.getOptionItems().size());
+            assertSame(item1, optionCategory.getOptionItems().get(0));
+            assertEquals(1500L, item1.getAdditionalPrice());
+            assertSame(item2, optionCategory.getOptionItems().get(1));
+            assertFalse(optionCategory.getOptionItems().contains(item3));
+
+            verify(orderMenuOptionRepository, times(1)).detachOptionItems(List.of(12L));
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<OptionItem>> newItemsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(optionItemRepository, times(1)).saveAll(newItemsCaptor.capture());
+            assertEquals(1, newItemsCaptor.getValue().size());
+            assertEquals("item4", newItemsCaptor.getValue().get(0).getName());
+            verify(menuOptionCatalogCache, times(1)).evict(1L);
+        }
+
+        @Test
+        @Order(4)
+        void 메뉴_옵션_수정_다른_카테고리_항목_id_실패() {
+            // given
+            Long userId = 1L;
+            given(storeOwnershipCache.getOwnerIdByMenuId(anyLong())).willReturn(userId);
+
+            OptionCategory optionCategory = new OptionCategory("category1", false, true, null, mock(Menu.class));
+            optionCategory.addOptionItem(optionItem(10L, "item1", 1000L));
+            given(optionCategoryRepository.findByIdAndMenuIdOrThrow(anyLong(), anyLong())).willReturn(optionCategory);
+
+            OptionCategoryRequest invalidRequest = new OptionCategoryRequest("category1", false, true, null, List.of(
+                    new OptionItemRequest(99L, "item1", 1000L)
+            ));
+
+            // when & then
+            CustomException customException = assertThrows(CustomException.class,
+                    () -> menuOptionOwnerService.updateMenuOption(userId, 1L, 1L, invalidRequest)
+            );
+            assertEquals(ErrorCode.OPTION_NOT_FOUND, customException.getErrorCode());
+            verifyNoInteractions(orderMenuOptionRepository, optionItemRepository);
+        }
+
+        private OptionItem optionItem(Long id, String name, Long additionalPrice) {
+            OptionItem optionItem = new OptionItem(name, additionalPrice);
+            ReflectionTestUtils.setField(optionItem, "id", id);
+            return optionItem;
         }
     }
 
@@ -180,7 +265,7 @@ class MenuOptionOwnerServiceTest {
             Long userId = 1L;
             Long menuOwnerId = 2L;
 
-            given(menuRepository.findOwnerIdByMenuIdOrThrow(anyLong())).willReturn(menuOwnerId);
+            given(storeOwnershipCache.getOwnerIdByMenuId(anyLong())).willReturn(menuOwnerId);
 
             // when & then
             CustomException customException = assertThrows(CustomException.class,
@@ -194,7 +279,7 @@ class MenuOptionOwnerServiceTest {
         void 메뉴_옵션_삭제_성공() {
             // given
             Long userId = 1L;
-            given(menuRepository.findOwnerIdByMenuIdOrThrow(anyLong())).willReturn(userId);
+            given(storeOwnershipCache.getOwnerIdByMenuId(anyLong())).willReturn(userId);
 
             OptionCategory mockOptionCategory = mock(OptionCategory.class);
             given(optionCategoryRepository.findByIdAndMenuIdOrThrow(anyLong(), anyLong())).willReturn(mockOptionCategory);
@@ -205,6 +290,7 @@ class MenuOptionOwnerServiceTest {
 
             // then
             verify(optionCategoryRepository, times(1)).delete(any(OptionCategory.class));
+            verify(menuOptionCatalogCache, times(1)).evict(1L);
         }
     }
 }
\ No newline at end of file
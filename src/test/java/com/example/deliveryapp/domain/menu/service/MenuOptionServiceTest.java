@@ -1,22 +1,18 @@
 package com.example.deliveryapp.domain.menu.service;
 
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog;
 import com.example.deliveryapp.domain.menu.dto.response.OptionCategoryPageResponse;
 import com.example.deliveryapp.domain.menu.entity.OptionCategory;
-import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -26,7 +22,7 @@ import static org.mockito.Mockito.mock;
 class MenuOptionServiceTest {
 
     @Mock
-    private OptionCategoryRepository optionCategoryRepository;
+    private MenuOptionCatalogCache menuOptionCatalogCache;
 
     @InjectMocks
     private MenuOptionService menuOptionService;
@@ -40,15 +36,12 @@ class MenuOptionServiceTest {
         void 메뉴_옵션_조회_성공() {
             // given
             int page = 1, size = 10;
-            Pageable pageable = PageRequest.of(page - 1, size);
 
             List<OptionCategory> optionCategoryList = List.of(
                     mock(OptionCategory.class),
                     mock(OptionCategory.class)
             );
-            Page<OptionCategory> optionCategoryPage = new PageImpl<>(optionCategoryList, pageable, optionCategoryList.size());
-
-            given(optionCategoryRepository.findAllByMenuId(anyLong(), any(Pageable.class))).willReturn(optionCategoryPage);
+            given(menuOptionCatalogCache.get(anyLong())).willReturn(MenuOptionCatalog.of(1L, optionCategoryList));
 
             // when
             OptionCategoryPageResponse response = menuOptionService.getMenuOptions(1L, page, size);
@@ -61,5 +54,22 @@ class MenuOptionServiceTest {
             assertEquals(page, response.getCurrentPage());
             assertEquals(size, response.getSize());
         }
+
+        @Test
+        @Order(2)
+        void 메뉴_옵션_조회_페이지_범위_초과() {
+            // given
+            int page = 2, size = 10;
+
+            List<OptionCategory> optionCategoryList = List.of(mock(OptionCategory.class));
+            given(menuOptionCatalogCache.get(anyLong())).willReturn(MenuOptionCatalog.of(1L, optionCategoryList));
+
+            // when
+            OptionCategoryPageResponse response = menuOptionService.getMenuOptions(1L, page, size);
+
+            // then
+            assertTrue(response.getContent().isEmpty());
+            assertEquals(optionCategoryList.size(), response.getTotalElements());
+        }
     }
 }
\ No newline at end of file
@@ -1,13 +1,18 @@
 package com.example.deliveryapp.domain.menu.service;
 
 import com.example.deliveryapp.client.S3Service;
+import com.example.deliveryapp.client.SignedUrlCache;
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
 import com.example.deliveryapp.domain.menu.dto.request.MenuRequest;
 import com.example.deliveryapp.domain.menu.dto.response.MenuResponse;
 import com.example.deliveryapp.domain.menu.dto.response.MenuResponseWithImageUrl;
 import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.enums.MenuImageVariant;
+import com.example.deliveryapp.domain.menu.image.MenuImageProcessor;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
 import com.example.deliveryapp.domain.store.entity.Store;
 import com.example.deliveryapp.domain.store.repository.StoreRepository;
 import com.example.deliveryapp.domain.user.entity.User;
@@ -30,12 +35,24 @@ class MenuOwnerServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private SignedUrlCache signedUrlCache;
+
     @Mock
     private MenuRepository menuRepository;
 
     @Mock
     private StoreRepository storeRepository;
 
+    @Mock
+    private MenuOptionCatalogCache menuOptionCatalogCache;
+
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
+    @Mock
+    private MenuImageProcessor menuImageProcessor;
+
     @InjectMocks
     private MenuOwnerService menuOwnerService;
 
@@ -115,7 +132,7 @@ class MenuOwnerServiceTest {
             Long userId = 1L;
             Long storeOwnerId = 2L;
 
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(storeOwnerId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(storeOwnerId);
 
             // when & then
             CustomException thrown = assertThrows(CustomException.class,
@@ -131,7 +148,7 @@ class MenuOwnerServiceTest {
             Long userId = 1L;
             Long storeId = 1L;
 
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(userId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(userId);
 
             Store anotherStore = mock(Store.class);
             when(anotherStore.getId()).thenReturn(2L);
@@ -155,7 +172,7 @@ class MenuOwnerServiceTest {
 
             Store mockStore = mock(Store.class);
             when(mockStore.getId()).thenReturn(1L);
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(userId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(userId);
 
             Menu mockMenu = spy(Menu.class);
             when(mockMenu.getId()).thenReturn(1L);
@@ -185,7 +202,7 @@ class MenuOwnerServiceTest {
             // given
             Long userId = 1L;
             Long storeOwnerId = 2L;
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(storeOwnerId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(storeOwnerId);
 
             // when & then
             CustomException thrown = assertThrows(CustomException.class,
@@ -201,7 +218,7 @@ class MenuOwnerServiceTest {
             Long userId = 1L;
             Long storeId = 1L;
 
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(userId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(userId);
 
             Store anotherStore = mock(Store.class);
             when(anotherStore.getId()).thenReturn(2L);
@@ -225,7 +242,7 @@ class MenuOwnerServiceTest {
 
             Store mockStore = mock(Store.class);
             when(mockStore.getId()).thenReturn(1L);
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(userId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(userId);
 
             Menu mockMenu = mock(Menu.class);
             when(mockMenu.getStore()).thenReturn(mockStore);
@@ -236,6 +253,8 @@ class MenuOwnerServiceTest {
 
             // then
             verify(mockMenu, times(1)).setDeletedAt(any(LocalDateTime.class));
+            verify(menuOptionCatalogCache, times(1)).evict(1L);
+            verify(storeOwnershipCache, times(1)).evictMenu(1L);
         }
     }
 
@@ -250,7 +269,7 @@ class MenuOwnerServiceTest {
             // given
             Long userId = 1L;
             Long storeOwnerId = 2L;
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(storeOwnerId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(storeOwnerId);
 
             // when & then
             CustomException thrown = assertThrows(CustomException.class,
@@ -266,7 +285,7 @@ class MenuOwnerServiceTest {
             Long userId = 1L;
             Long storeId = 1L;
 
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(userId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(userId);
 
             Store anotherStore = mock(Store.class);
             when(anotherStore.getId()).thenReturn(2L);
@@ -292,7 +311,7 @@ class MenuOwnerServiceTest {
 
             Store mockStore = mock(Store.class);
             when(mockStore.getId()).thenReturn(1L);
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(userId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(userId);
 
             Menu menu = Menu.builder().store(mockStore).build();
             menu.setImageUrl("unsignedUrl");
@@ -300,7 +319,7 @@ class MenuOwnerServiceTest {
 
             doNothing().when(s3Service).deleteImage(any(), anyString());
             when(s3Service.uploadImage(any(), any())).thenReturn(newImageUrl);
-            when(s3Service.createSignedUrl(any(), eq(newImageUrl))).thenReturn(signedUrl);
+            when(signedUrlCache.get(any(), eq(newImageUrl))).thenReturn(signedUrl);
 
             // when
             MenuResponseWithImageUrl response = menuOwnerService.uploadMenuImage(userId, mockStore.getId(), 1L, null);
@@ -308,6 +327,10 @@ class MenuOwnerServiceTest {
             // then
             assertNotNull(response);
             assertEquals(signedUrl, response.getImageUrl());
+            assertNull(response.getThumbnailImageUrl());
+            verify(signedUrlCache, times(1)).evict(any(), eq("unsignedUrl"));
+            verify(s3Service, times(1)).deleteImage(any(), eq(MenuImageVariant.THUMBNAIL.fileName("unsignedUrl")));
+            verify(menuImageProcessor, times(1)).submitAfterCommit(any(), eq(newImageUrl), any());
         }
     }
 
@@ -322,7 +345,7 @@ class MenuOwnerServiceTest {
             // given
             Long userId = 1L;
             Long storeOwnerId = 2L;
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(storeOwnerId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(storeOwnerId);
 
             // when & then
             CustomException thrown = assertThrows(CustomException.class,
@@ -338,7 +361,7 @@ class MenuOwnerServiceTest {
             Long userId = 1L;
             Long storeId = 1L;
 
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(userId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(userId);
 
             Store anotherStore = mock(Store.class);
             when(anotherStore.getId()).thenReturn(2L);
@@ -362,7 +385,7 @@ class MenuOwnerServiceTest {
 
             Store mockStore = mock(Store.class);
             when(mockStore.getId()).thenReturn(1L);
-            when(storeRepository.findOwnerIdByStoreIdOrThrow(anyLong())).thenReturn(userId);
+            when(storeOwnershipCache.getOwnerId(anyLong())).thenReturn(userId);
 
             Menu menu = Menu.builder().store(mockStore).build();
             menu.setImageUrl("unsignedUrl");
@@ -374,7 +397,12 @@ class MenuOwnerServiceTest {
             menuOwnerService.deleteMenuImage(userId, mockStore.getId(), 1L);
 
             // then
-            verify(s3Service, times(1)).deleteImage(any(), anyString());
+            verify(s3Service, times(1)).deleteImage(any(), eq("unsignedUrl"));
+            verify(signedUrlCache, times(1)).evict(any(), eq("unsignedUrl"));
+            for (MenuImageVariant variant : MenuImageVariant.values()) {
+                verify(s3Service, times(1)).deleteImage(any(), eq(variant.fileName("unsignedUrl")));
+                verify(signedUrlCache, times(1)).evict(any(), eq(variant.fileName("unsignedUrl")));
+            }
             assertNull(menu.getImageUrl());
         }
     }
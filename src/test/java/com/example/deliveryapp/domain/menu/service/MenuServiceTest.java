@@ -1,9 +1,10 @@
 package com.example.deliveryapp.domain.menu.service;
 
-import com.example.deliveryapp.client.S3Service;
+import com.example.deliveryapp.client.SignedUrlCache;
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.menu.dto.response.MenuPageResponse;
+import com.example.deliveryapp.domain.menu.dto.response.MenuResponseWithImageUrl;
 import com.example.deliveryapp.domain.menu.entity.Menu;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
 import com.example.deliveryapp.domain.store.repository.StoreRepository;
@@ -33,7 +34,7 @@ class MenuServiceTest {
     private StoreRepository storeRepository;
 
     @Mock
-    private S3Service s3Service;
+    private SignedUrlCache signedUrlCache;
 
     @InjectMocks
     private MenuService menuService;
@@ -69,7 +70,7 @@ class MenuServiceTest {
 
             given(storeRepository.existsByIdAndDeletedAtIsNull(anyLong())).willReturn(true);
             given(menuRepository.findAllByStoreIdAndDeletedAtIsNull(anyLong(), any(Pageable.class))).willReturn(menuPage);
-            given(s3Service.createSignedUrl(any(), anyString())).willReturn(signedUrl);
+            given(signedUrlCache.get(any(), anyString())).willReturn(signedUrl);
 
             // when
             MenuPageResponse response = menuService.getMenus(1L, page, size);
@@ -82,6 +83,31 @@ class MenuServiceTest {
             assertEquals(page, response.getCurrentPage());
             assertEquals(size, response.getSize());
             assertEquals(signedUrl, response.getContent().get(0).getImageUrl());
+            assertNull(response.getContent().get(0).getThumbnailImageUrl());
+        }
+
+        @Test
+        @Order(3)
+        void 메뉴조회_크기별_이미지_변환_완료_시_크기별_URL_포함() {
+            // given
+            Menu menu = mock(Menu.class);
+            when(menu.getImageUrl()).thenReturn("image.png");
+            when(menu.isImageVariantsReady()).thenReturn(true);
+            Page<Menu> menuPage = new PageImpl<>(List.of(menu), PageRequest.of(0, 10), 1);
+
+            given(storeRepository.existsByIdAndDeletedAtIsNull(anyLong())).willReturn(true);
+            given(menuRepository.findAllByStoreIdAndDeletedAtIsNull(anyLong(), any(Pageable.class))).willReturn(menuPage);
+            given(signedUrlCache.get(any(), anyString())).willAnswer(invocation -> "signed/" + invocation.getArgument(1));
+
+            // when
+            MenuPageResponse response = menuService.getMenus(1L, 1, 10);
+
+            // then
+            MenuResponseWithImageUrl content = response.getContent().get(0);
+            assertEquals("signed/image.png", content.getImageUrl());
+            assertEquals("signed/thumbnail/image.jpg", content.getThumbnailImageUrl());
+            assertEquals("signed/list/image.jpg", content.getListImageUrl());
+            assertEquals("signed/detail/image.jpg", content.getDetailImageUrl());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.deliveryapp.domain.order.audit;
+
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderAuditWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderAuditWriter orderAuditWriter;
+
+    @BeforeEach
+    void setUp() {
+        orderAuditWriter = new OrderAuditWriter(jdbcTemplate, new SimpleMeterRegistry(), 3, 2, 200L);
+    }
+
+    @Test
+    void 용량을_넘는_이벤트는_버리고_카운트한다() {
+        for (int i = 0; i < 5; i++) {
+            orderAuditWriter.append(event((long) i));
+        }
+
+        assertEquals(3, orderAuditWriter.getQueueSize());
+        assertEquals(2L, orderAuditWriter.getDroppedCount());
+    }
+
+    @Test
+    void 배치_크기_단위로_나눠_기록한다() {
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[0]);
+        for (int i = 0; i < 3; i++) {
+            orderAuditWriter.append(event((long) i));
+        }
+
+        int written = orderAuditWriter.flush();
+
+        assertEquals(3, written);
+        assertEquals(0, orderAuditWriter.getQueueSize());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void 기록에_실패해도_큐를_비운다() {
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new IllegalStateException("db down"));
+        orderAuditWriter.append(event(1L));
+
+        int written = orderAuditWriter.flush();
+
+        assertEquals(0, written);
+        assertEquals(0, orderAuditWriter.getQueueSize());
+        assertTrue(orderAuditWriter.append(event(2L)));
+    }
+
+    private static OrderAuditEvent event(Long orderId) {
+        return new OrderAuditEvent(OrderAuditAction.UPDATE_STATE, orderId, 1L, 1L,
+                OrderState.PENDING, OrderState.ACCEPTED, LocalDateTime.now());
+    }
+}
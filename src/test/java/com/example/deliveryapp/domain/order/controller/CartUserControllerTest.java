@@ -1,6 +1,10 @@
 package com.example.deliveryapp.domain.order.controller;
 
+import com.example.deliveryapp.config.JwtFilter;
+import com.example.deliveryapp.domain.common.dto.AuthUser;
+import com.example.deliveryapp.domain.user.enums.UserRole;
 import com.example.deliveryapp.domain.order.dto.request.CartAddRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartBulkAddRequest;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.service.CartService;
 import com.example.deliveryapp.domain.order.service.OrderService;
@@ -15,6 +19,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -51,21 +57,58 @@ public class CartUserControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(cartAddRequest))
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void 장바구니_여러_메뉴_추가_성공() throws Exception {
+        long userId = 1L;
+
+        CartBulkAddRequest cartBulkAddRequest = new CartBulkAddRequest(List.of(
+                new CartBulkAddRequest.CartLineRequest(1L, 2, null),
+                new CartBulkAddRequest.CartLineRequest(2L, 1, null)));
+        List<OrderResponse.OrderMenuResponse> cartItems = List.of(
+                new OrderResponse.OrderMenuResponse(1L, 1L, "Menu1", 2000L, 2, List.of()),
+                new OrderResponse.OrderMenuResponse(2L, 2L, "Menu2", 3000L, 1, List.of()));
+        when(cartService.addCartItems(eq(userId), any(CartBulkAddRequest.class))).thenReturn(cartItems);
+
+        mockMvc.perform(post("/carts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cartBulkAddRequest))
+                        .with(request -> {
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
+                            return request;
+                        }))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].quantity").value(2))
+                .andExpect(jsonPath("$[0].price").value(2000L))
+                .andExpect(jsonPath("$[1].menuId").value(2L));
+    }
+
+    @Test
+    void 장바구니_여러_메뉴_추가_수량이_0이면_실패() throws Exception {
+        CartBulkAddRequest cartBulkAddRequest = new CartBulkAddRequest(List.of(
+                new CartBulkAddRequest.CartLineRequest(1L, 0, null)));
+
+        mockMvc.perform(post("/carts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cartBulkAddRequest))
+                        .with(request -> {
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(1L, "em@em.com", "name", UserRole.USER));
+                            return request;
+                        }))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void 장바구니_조회_성공() throws Exception {
         long userId = 1L;
 
         OrderResponse.OrderMenuResponse orderMenuResponse = new OrderResponse.OrderMenuResponse(
-                1L, 1L, "Menu Name", 1000L, List.of(
+                1L, 1L, "Menu Name", 1000L, 1, List.of(
                 new OrderResponse.OrderMenuResponse.OrderMenuOptionResponse(
                         1L, 1L, "Option Name", 100L)));
         List<OrderResponse.OrderMenuResponse> cartItems = List.of(orderMenuResponse);
@@ -77,10 +120,7 @@ public class CartUserControllerTest {
         mockMvc.perform(get("/carts")
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken)
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk())
@@ -105,10 +145,7 @@ public class CartUserControllerTest {
         mockMvc.perform(delete("/orders/{orderMenuId}", orderMenuId)
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken)
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk());
@@ -1,13 +1,18 @@
 package com.example.deliveryapp.domain.order.controller;
 
+import com.example.deliveryapp.config.JwtFilter;
+import com.example.deliveryapp.domain.common.dto.AuthUser;
 import com.example.deliveryapp.domain.menu.entity.Menu;
 import com.example.deliveryapp.domain.order.converter.OrderConverter;
+import com.example.deliveryapp.domain.order.dto.OrderStateChange;
 import com.example.deliveryapp.domain.order.dto.request.OrderStateUpdateRequest;
+import com.example.deliveryapp.domain.order.dto.response.OrderCursorResponse;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.entity.Order;
 import com.example.deliveryapp.domain.order.entity.OrderMenu;
 import com.example.deliveryapp.domain.order.enums.OrderState;
 import com.example.deliveryapp.domain.order.service.OrderService;
+import com.example.deliveryapp.domain.order.stream.OrderEventHub;
 import com.example.deliveryapp.domain.store.entity.Store;
 import com.example.deliveryapp.domain.store.enums.StoreStatus;
 import com.example.deliveryapp.domain.user.entity.User;
@@ -21,17 +26,21 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(OrderController.class)
@@ -46,6 +55,9 @@ public class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private OrderEventHub orderEventHub;
+
     @Test
     void 사장님의_가게별_주문_목록_조회_성공() throws Exception {
         Long userId = 1L;
@@ -69,20 +81,18 @@ public class OrderControllerTest {
 
         List<OrderResponse> orderList = List.of(response);
 
-        given(orderService.getOrdersByStoreId(anyLong(), anyLong())).willReturn(orderList);
+        given(orderService.getOrdersByStoreId(anyLong(), anyLong(), isNull(), isNull(), anyInt()))
+                .willReturn(new OrderCursorResponse(orderList, null, false, 10));
 
         mockMvc.perform(get("/stores/{storeId}/orders", storeId)
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
@@ -93,19 +103,38 @@ public class OrderControllerTest {
 
         OrderStateUpdateRequest stateUpdateRequest = new OrderStateUpdateRequest(OrderState.ACCEPTED);
 
-        doNothing().when(orderService).updateOrderState(anyLong(), anyLong(), any(OrderStateUpdateRequest.class));
+        given(orderService.updateOrderState(anyLong(), anyLong(), any(OrderStateUpdateRequest.class)))
+                .willReturn(new OrderStateChange(orderId, 1L, OrderState.PENDING, OrderState.ACCEPTED));
 
         mockMvc.perform(patch("/orders/{orderId}", orderId)
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(stateUpdateRequest))
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void 가게_주문_스트림_구독_성공() throws Exception {
+        Long userId = 1L;
+        Long storeId = 1L;
+        Long lastEventId = 5L;
+
+        given(orderEventHub.subscribe(storeId, lastEventId)).willReturn(new SseEmitter());
+
+        mockMvc.perform(get("/stores/{storeId}/orders/stream", storeId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer bearerToken")
+                        .header("Last-Event-ID", lastEventId)
+                        .with(request -> {
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.OWNER));
+                            return request;
+                        }))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(orderService).checkStoreOwner(userId, storeId);
+    }
 }
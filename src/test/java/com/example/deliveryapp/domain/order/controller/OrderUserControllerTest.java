@@ -1,7 +1,10 @@
 package com.example.deliveryapp.domain.order.controller;
 
+import com.example.deliveryapp.config.JwtFilter;
+import com.example.deliveryapp.domain.common.dto.AuthUser;
 import com.example.deliveryapp.domain.menu.entity.Menu;
 import com.example.deliveryapp.domain.order.converter.OrderConverter;
+import com.example.deliveryapp.domain.order.dto.response.OrderPageResponse;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.entity.Order;
 import com.example.deliveryapp.domain.order.entity.OrderMenu;
@@ -15,6 +18,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -24,8 +28,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -69,10 +76,7 @@ public class OrderUserControllerTest {
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk());
@@ -98,19 +102,30 @@ public class OrderUserControllerTest {
 
         List<OrderResponse> orderList = List.of(response);
 
-        given(orderService.getOrdersByUserId(anyLong())).willReturn(orderList);
+        given(orderService.getOrdersByUserId(anyLong(), anyInt(), anyInt()))
+                .willReturn(new OrderPageResponse(new PageImpl<>(orderList)));
 
         mockMvc.perform(get("/orders")
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content.length()").value(1));
+    }
+
+    @Test
+    void 사용자의_주문_목록_조회_페이지_크기_초과_실패() throws Exception {
+        mockMvc.perform(get("/orders")
+                        .param("size", "1000000")
+                        .with(request -> {
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(1L, "em@em.com", "name", UserRole.USER));
+                            return request;
+                        }))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).getOrdersByUserId(anyLong(), anyInt(), anyInt());
     }
 }
@@ -0,0 +1,145 @@
+package com.example.deliveryapp.domain.order.service;
+
+import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.order.repository.OrderMenuOptionRepository;
+import com.example.deliveryapp.domain.order.repository.OrderMenuRepository;
+import com.example.deliveryapp.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartExpiryServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMenuRepository orderMenuRepository;
+
+    @Mock
+    private OrderMenuOptionRepository orderMenuOptionRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CartExpiryService cartExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cartExpiryService, "ttlHours", 24L);
+        ReflectionTestUtils.setField(cartExpiryService, "batchSize", 2);
+    }
+
+    @Test
+    void 만료된_장바구니가_없으면_삭제하지_않는다() {
+        given(orderRepository.findExpiredCartIds(eq(OrderState.CART), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        int result = cartExpiryService.cleanupCarts();
+
+        assertEquals(0, result);
+        verifyNoInteractions(transactionTemplate, orderMenuRepository, orderMenuOptionRepository);
+    }
+
+    @Test
+    void 만료된_장바구니를_배치_단위로_비운다() {
+        willExecuteCallback();
+        given(orderRepository.findExpiredCartIds(eq(OrderState.CART), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(1L, 3L));
+        given(orderRepository.findExpiredCartIds(eq(OrderState.CART), any(LocalDateTime.class), eq(3L), any(Pageable.class)))
+                .willReturn(List.of(7L));
+        willLockAll();
+        given(orderMenuOptionRepository.deleteAllByOrderIds(anyList())).willReturn(2);
+        given(orderMenuRepository.deleteAllByOrderIds(anyList())).willReturn(1);
+
+        int result = cartExpiryService.cleanupCarts();
+
+        assertEquals(3, result);
+        verify(orderMenuOptionRepository).deleteAllByOrderIds(List.of(1L, 3L));
+        verify(orderMenuRepository).deleteAllByOrderIds(List.of(1L, 3L));
+        verify(orderMenuOptionRepository).deleteAllByOrderIds(List.of(7L));
+        verify(orderMenuRepository).deleteAllByOrderIds(List.of(7L));
+        verify(orderRepository, never()).findAll();
+
+        assertEquals(2, meterRegistry.get("cart.expiry.batch").timer().count());
+        assertEquals(3.0, meterRegistry.get("cart.expiry.carts").counter().count());
+        assertEquals(6.0, meterRegistry.get("cart.expiry.deleted.rows").counter().count());
+    }
+
+    @Test
+    void 조회_이후_주문되거나_갱신된_장바구니는_비우지_않는다() {
+        willExecuteCallback();
+        given(orderRepository.findExpiredCartIds(eq(OrderState.CART), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(1L, 3L));
+        // 3 번은 조회 이후 주문되어 잠글 때 조건에서 빠짐
+        given(orderRepository.lockExpiredCarts(eq(List.of(1L, 3L)), eq(OrderState.CART), any(LocalDateTime.class)))
+                .willReturn(List.of(order(1L)));
+        given(orderRepository.findExpiredCartIds(eq(OrderState.CART), any(LocalDateTime.class), eq(3L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        int result = cartExpiryService.cleanupCarts();
+
+        assertEquals(1, result);
+        verify(orderMenuOptionRepository).deleteAllByOrderIds(List.of(1L));
+        verify(orderMenuRepository).deleteAllByOrderIds(List.of(1L));
+        verify(orderRepository).resetTotalPriceByIds(List.of(1L));
+    }
+
+    @Test
+    void 배치의_장바구니가_모두_바뀌었으면_삭제하지_않는다() {
+        willExecuteCallback();
+        given(orderRepository.findExpiredCartIds(eq(OrderState.CART), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(1L));
+        given(orderRepository.lockExpiredCarts(anyList(), eq(OrderState.CART), any(LocalDateTime.class)))
+                .willReturn(List.of());
+
+        int result = cartExpiryService.cleanupCarts();
+
+        assertEquals(0, result);
+        verifyNoInteractions(orderMenuRepository, orderMenuOptionRepository);
+        verify(orderRepository, never()).resetTotalPriceByIds(anyList());
+    }
+
+    private void willLockAll() {
+        given(orderRepository.lockExpiredCarts(anyList(), eq(OrderState.CART), any(LocalDateTime.class)))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                        .map(CartExpiryServiceTest::order)
+                        .toList());
+    }
+
+    private static Order order(Long id) {
+        Order order = Order.builder().orderState(OrderState.CART).build();
+        ReflectionTestUtils.setField(order, "id", id);
+        return order;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willExecuteCallback() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.deliveryapp.domain.order.service;
+
+import com.example.deliveryapp.config.PersistenceConfig;
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.entity.OptionItem;
+import com.example.deliveryapp.domain.order.dto.request.CartAddRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartAddRequest.OptionRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartBulkAddRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartBulkAddRequest.CartLineRequest;
+import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.user.cache.UserRoleCache;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.support.QueryCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.deliveryapp.support.QueryCounter")
+@Import({CartService.class, MenuOptionCatalogCache.class, UserRoleCache.class, SimpleMeterRegistry.class,
+        PersistenceConfig.class})
+class CartServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private MenuOptionCatalogCache menuOptionCatalogCache;
+
+    @Autowired
+    private UserRoleCache userRoleCache;
+
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        User owner = em.persist(new User("owner@em.com", "pw", "owner", UserRole.OWNER));
+        store = em.persist(new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                1000L, StoreStatus.OPEN, owner));
+    }
+
+    @Test
+    void 옵션_수와_무관하게_장바구니_추가_조회_쿼리_수가_일정하다() {
+        User user1 = em.persist(new User("user1@em.com", "pw", "user1", UserRole.USER));
+        User user2 = em.persist(new User("user2@em.com", "pw", "user2", UserRole.USER));
+        Menu narrowMenu = em.persist(new Menu("narrow", 10000L, "description", store));
+        Menu wideMenu = em.persist(new Menu("wide", 10000L, "description", store));
+        List<OptionCategory> narrowCategories = persistOptionCategories(narrowMenu, 1, 2);
+        List<OptionCategory> wideCategories = persistOptionCategories(wideMenu, 4, 10);
+        em.flush();
+        em.clear();
+
+        long narrowSelectCount = countSelects(user1.getId(), toRequest(narrowMenu, narrowCategories));
+        long wideSelectCount = countSelects(user2.getId(), toRequest(wideMenu, wideCategories));
+
+        // 사용자, 메뉴, 옵션 카테고리(+옵션 항목), 장바구니 조회
+        assertEquals(narrowSelectCount, wideSelectCount);
+        assertTrue(wideSelectCount <= 4, "select count: " + wideSelectCount);
+    }
+
+    @Test
+    void 여러_줄을_담아도_insert_는_테이블마다_한_번의_배치로_실행된다() {
+        User user = em.persist(new User("user@em.com", "pw", "user", UserRole.USER));
+        List<CartLineRequest> lines = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Menu menu = em.persist(new Menu("menu" + i, 10000L, "description", store));
+            CartAddRequest request = toRequest(menu, persistOptionCategories(menu, 1, 2));
+            lines.add(new CartLineRequest(menu.getId(), 1, request.getOptions()));
+        }
+        em.flush();
+        em.clear();
+
+        QueryCounter.clear();
+        List<OrderResponse.OrderMenuResponse> cartItems =
+                cartService.addCartItems(user.getId(), new CartBulkAddRequest(lines));
+
+        // IDENTITY id 였다면 주문 1 + 주문 메뉴 10 + 주문 메뉴 옵션 20 = 31 번
+        assertEquals(10, cartItems.size());
+        assertEquals(3, QueryCounter.getInsertCount());
+    }
+
+    @Test
+    void 사용자_권한이_캐시되어_있으면_사용자_조회_쿼리가_생략된다() {
+        User coldUser = em.persist(new User("cold@em.com", "pw", "cold", UserRole.USER));
+        User warmUser = em.persist(new User("warm@em.com", "pw", "warm", UserRole.USER));
+        Menu menu = em.persist(new Menu("menu", 10000L, "description", store));
+        CartAddRequest request = toRequest(menu, persistOptionCategories(menu, 1, 2));
+        em.flush();
+        em.clear();
+        menuOptionCatalogCache.get(menu.getId());
+        userRoleCache.getActiveRole(warmUser.getId());
+
+        long hitCount = userRoleCache.stats().hitCount();
+        long coldSelectCount = countSelects(coldUser.getId(), request);
+        long warmSelectCount = countSelects(warmUser.getId(), request);
+
+        // 사용자 엔티티는 장바구니 FK 참조로만 쓰이므로 권한이 캐시되어 있으면 users 테이블을 조회하지 않음
+        assertEquals(coldSelectCount - 1, warmSelectCount);
+        assertEquals(hitCount + 1, userRoleCache.stats().hitCount());
+    }
+
+    private long countSelects(Long userId, CartAddRequest request) {
+        QueryCounter.clear();
+        cartService.addCart(userId, request);
+        em.flush();
+        long selectCount = QueryCounter.getSelectCount();
+        em.clear();
+        return selectCount;
+    }
+
+    private List<OptionCategory> persistOptionCategories(Menu menu, int categoryCount, int itemCount) {
+        List<OptionCategory> optionCategories = new ArrayList<>();
+        for (int i = 0; i < categoryCount; i++) {
+            OptionCategory optionCategory = new OptionCategory("category" + i, false, true, null, menu);
+            for (int j = 0; j < itemCount; j++) {
+                optionCategory.addOptionItem(new OptionItem("item" + j, 100L));
+            }
+            optionCategories.add(em.persist(optionCategory));
+        }
+        return optionCategories;
+    }
+
+    private static CartAddRequest toRequest(Menu menu, List<OptionCategory> optionCategories) {
+        List<OptionRequest> options = optionCategories.stream()
+                .map(optionCategory -> new OptionRequest(
+                        optionCategory.getId(),
+                        optionCategory.getOptionItems().stream().map(OptionItem::getId).toList()
+                ))
+                .toList();
+        return new CartAddRequest(menu.getId(), options);
+    }
+}
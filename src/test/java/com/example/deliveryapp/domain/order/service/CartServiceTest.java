@@ -1,13 +1,18 @@
 package com.example.deliveryapp.domain.order.service;
 
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.cache.MenuOptionCatalogCache;
+import com.example.deliveryapp.domain.menu.dto.MenuOptionCatalog;
 import com.example.deliveryapp.domain.menu.entity.Menu;
 import com.example.deliveryapp.domain.menu.entity.OptionCategory;
 import com.example.deliveryapp.domain.menu.entity.OptionItem;
 import com.example.deliveryapp.domain.menu.repository.MenuRepository;
-import com.example.deliveryapp.domain.menu.repository.OptionCategoryRepository;
 import com.example.deliveryapp.domain.menu.repository.OptionItemRepository;
 import com.example.deliveryapp.domain.order.dto.request.CartAddRequest;
 import com.example.deliveryapp.domain.order.dto.request.CartAddRequest.OptionRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartBulkAddRequest;
+import com.example.deliveryapp.domain.order.dto.request.CartBulkAddRequest.CartLineRequest;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.entity.Order;
 import com.example.deliveryapp.domain.order.entity.OrderMenu;
@@ -15,6 +20,7 @@ import com.example.deliveryapp.domain.order.enums.OrderState;
 import com.example.deliveryapp.domain.order.repository.OrderRepository;
 import com.example.deliveryapp.domain.store.entity.Store;
 import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.user.cache.UserRoleCache;
 import com.example.deliveryapp.domain.user.entity.User;
 import com.example.deliveryapp.domain.user.enums.UserRole;
 import com.example.deliveryapp.domain.user.repository.UserRepository;
@@ -31,6 +37,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,10 +59,13 @@ public class CartServiceTest {
     private MenuRepository menuRepository;
 
     @Mock
-    private OptionCategoryRepository optionCategoryRepository;
+    private OptionItemRepository optionItemRepository;
 
     @Mock
-    private OptionItemRepository optionItemRepository;
+    private MenuOptionCatalogCache menuOptionCatalogCache;
+
+    @Mock
+    private UserRoleCache userRoleCache;
 
     @InjectMocks
     private CartService cartService;
@@ -78,7 +88,8 @@ public class CartServiceTest {
         @Test
         void 장바구니_가게가_다른_경우_초기화_후_추가_성공() {
             User user = mock(User.class);
-            given(userRepository.findByIdAndUserRoleOrThrow(anyLong())).willReturn(user);
+            given(userRoleCache.getActiveRole(anyLong())).willReturn(UserRole.USER);
+            given(userRepository.getReferenceById(anyLong())).willReturn(user);
 
             Store store = mock(Store.class);
             given(store.getId()).willReturn(1L);
@@ -95,7 +106,8 @@ public class CartServiceTest {
             OptionCategory optionCategory = spy(new OptionCategory("category1", false, true, null, menu));
             given(optionCategory.getId()).willReturn(request.getOptions().get(0).getOptionCategoryId());
             given(optionCategory.getOptionItems()).willReturn(Arrays.asList(item1, item2));
-            given(optionCategoryRepository.findAllByMenuId(anyLong())).willReturn(List.of(optionCategory));
+            given(menuOptionCatalogCache.get(anyLong()))
+                    .willReturn(MenuOptionCatalog.of(request.getMenuId(), List.of(optionCategory)));
 
             Store anotherStore = mock(Store.class);
             given(store.getId()).willReturn(2L);
@@ -104,9 +116,6 @@ public class CartServiceTest {
             given(orderRepository.findByUserIdAndOrderState(anyLong(),any(OrderState.class)))
                     .willReturn(Optional.of(order));
 
-            given(optionItemRepository.findByIdOrThrow(item1.getId())).willReturn(item1);
-            given(optionItemRepository.findByIdOrThrow(item2.getId())).willReturn(item2);
-
             cartService.addCart(1L, request);
 
             verify(order, times(1)).clearOrderMenus();
@@ -116,7 +125,8 @@ public class CartServiceTest {
         @Test
         void 장바구니_없는_상태_장바구니_추가_성공() {
             User user = mock(User.class);
-            given(userRepository.findByIdAndUserRoleOrThrow(anyLong())).willReturn(user);
+            given(userRoleCache.getActiveRole(anyLong())).willReturn(UserRole.USER);
+            given(userRepository.getReferenceById(anyLong())).willReturn(user);
 
             Store store = mock(Store.class);
             given(store.getId()).willReturn(1L);
@@ -133,17 +143,162 @@ public class CartServiceTest {
             OptionCategory optionCategory = spy(new OptionCategory("category1", false, true, null, menu));
             given(optionCategory.getId()).willReturn(request.getOptions().get(0).getOptionCategoryId());
             given(optionCategory.getOptionItems()).willReturn(Arrays.asList(item1, item2));
-            given(optionCategoryRepository.findAllByMenuId(anyLong())).willReturn(List.of(optionCategory));
+            given(menuOptionCatalogCache.get(anyLong()))
+                    .willReturn(MenuOptionCatalog.of(request.getMenuId(), List.of(optionCategory)));
 
             given(orderRepository.findByUserIdAndOrderState(anyLong(),any(OrderState.class)))
                     .willReturn(Optional.empty());
-            given(optionItemRepository.findByIdOrThrow(item1.getId())).willReturn(item1);
-            given(optionItemRepository.findByIdOrThrow(item2.getId())).willReturn(item2);
-
             cartService.addCart(1L, request);
 
             verify(orderRepository, times(1)).save(any(Order.class));
         }
+
+        @Test
+        void 일반_사용자가_아니면_사용자를_조회하지_않고_실패() {
+            given(userRoleCache.getActiveRole(anyLong())).willReturn(UserRole.OWNER);
+
+            CustomException exception = assertThrows(CustomException.class, () -> cartService.addCart(1L, request));
+
+            assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+            verifyNoInteractions(userRepository, menuRepository, orderRepository);
+        }
+    }
+
+    @Nested
+    class 장바구니_여러_메뉴_추가 {
+
+        private User user;
+        private Store store;
+        private Menu menu1;
+        private Menu menu2;
+
+        @BeforeEach
+        void setUp() {
+            user = new User("em@em.com", "pw", "name", UserRole.USER);
+            store = new Store("name", LocalTime.of(9, 0), LocalTime.of(22, 0),
+                    1000L, StoreStatus.OPEN, user);
+            ReflectionTestUtils.setField(store, "id", 1L);
+            menu1 = new Menu("menu1", 10000L, "description", store);
+            ReflectionTestUtils.setField(menu1, "id", 1L);
+            menu2 = new Menu("menu2", 20000L, "description", store);
+            ReflectionTestUtils.setField(menu2, "id", 2L);
+
+            given(userRoleCache.getActiveRole(anyLong())).willReturn(UserRole.USER);
+            given(userRepository.getReferenceById(anyLong())).willReturn(user);
+        }
+
+        @Test
+        void 같은_메뉴는_기존_장바구니_항목과_합쳐_수량만_늘린다() {
+            Order cart = new Order(user, store, OrderState.CART);
+            ReflectionTestUtils.setField(cart, "id", 1L);
+            cart.addOrderMenu(new OrderMenu(menu1));
+
+            given(menuRepository.findAllByIdInAndDeletedAtIsNull(any())).willReturn(List.of(menu1, menu2));
+            given(menuOptionCatalogCache.getAll(any())).willReturn(Map.of(
+                    1L, MenuOptionCatalog.of(1L, List.of()),
+                    2L, MenuOptionCatalog.of(2L, List.of())));
+            given(orderRepository.findByUserIdAndOrderState(anyLong(), any(OrderState.class)))
+                    .willReturn(Optional.of(cart));
+
+            CartBulkAddRequest request = new CartBulkAddRequest(List.of(
+                    new CartLineRequest(1L, 2, null),
+                    new CartLineRequest(2L, 1, null),
+                    new CartLineRequest(2L, 3, List.of())));
+
+            List<OrderResponse.OrderMenuResponse> cartItems = cartService.addCartItems(1L, request);
+
+            assertEquals(2, cartItems.size());
+            assertEquals(3, cartItems.get(0).getQuantity());
+            assertEquals(30000L, cartItems.get(0).getPrice());
+            assertEquals(4, cartItems.get(1).getQuantity());
+            assertEquals(80000L, cartItems.get(1).getPrice());
+            assertEquals(110000L, cart.getTotalPrice());
+            assertEquals(cart.calculateTotalPrice(), cart.getTotalPrice());
+
+            // 카탈로그는 메뉴 묶음으로 한 번만 조회
+            verify(menuOptionCatalogCache, times(1)).getAll(any());
+            verify(menuOptionCatalogCache, never()).get(anyLong());
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        void 합친_수량이_최대_수량을_넘으면_실패() {
+            Order cart = new Order(user, store, OrderState.CART);
+            ReflectionTestUtils.setField(cart, "id", 1L);
+            cart.addOrderMenu(new OrderMenu(menu1, 90));
+
+            given(menuRepository.findAllByIdInAndDeletedAtIsNull(any())).willReturn(List.of(menu1));
+            given(menuOptionCatalogCache.getAll(any())).willReturn(Map.of(1L, MenuOptionCatalog.of(1L, List.of())));
+            given(orderRepository.findByUserIdAndOrderState(anyLong(), any(OrderState.class)))
+                    .willReturn(Optional.of(cart));
+
+            CartBulkAddRequest request = new CartBulkAddRequest(List.of(new CartLineRequest(1L, 10, null)));
+
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> cartService.addCartItems(1L, request));
+            assertEquals(ErrorCode.CART_QUANTITY_EXCEEDED, exception.getErrorCode());
+            assertEquals(90, cart.getOrderMenus().get(0).getQuantity());
+        }
+
+        @Test
+        void 담은_뒤_가격이_바뀐_메뉴는_합치지_않고_현재_가격으로_새로_담는다() {
+            Order cart = new Order(user, store, OrderState.CART);
+            ReflectionTestUtils.setField(cart, "id", 1L);
+            cart.addOrderMenu(new OrderMenu(menu1));
+            menu1.update("menu1", 12000L, "description");
+
+            given(menuRepository.findAllByIdInAndDeletedAtIsNull(any())).willReturn(List.of(menu1));
+            given(menuOptionCatalogCache.getAll(any())).willReturn(Map.of(1L, MenuOptionCatalog.of(1L, List.of())));
+            given(orderRepository.findByUserIdAndOrderState(anyLong(), any(OrderState.class)))
+                    .willReturn(Optional.of(cart));
+
+            CartBulkAddRequest request = new CartBulkAddRequest(List.of(
+                    new CartLineRequest(1L, 2, null),
+                    new CartLineRequest(1L, 1, null)));
+
+            List<OrderResponse.OrderMenuResponse> cartItems = cartService.addCartItems(1L, request);
+
+            // 기존 항목은 담을 때 가격 그대로, 새 요청은 현재 가격 항목 하나로 합침
+            assertEquals(2, cartItems.size());
+            assertEquals(1, cartItems.get(0).getQuantity());
+            assertEquals(10000L, cartItems.get(0).getPrice());
+            assertEquals(3, cartItems.get(1).getQuantity());
+            assertEquals(36000L, cartItems.get(1).getPrice());
+            assertEquals(46000L, cart.getTotalPrice());
+        }
+
+        @Test
+        void 다른_가게_메뉴가_섞이면_실패() {
+            Store anotherStore = new Store("another", LocalTime.of(9, 0), LocalTime.of(22, 0),
+                    1000L, StoreStatus.OPEN, user);
+            ReflectionTestUtils.setField(anotherStore, "id", 2L);
+            Menu anotherMenu = new Menu("menu3", 5000L, "description", anotherStore);
+            ReflectionTestUtils.setField(anotherMenu, "id", 3L);
+
+            given(menuRepository.findAllByIdInAndDeletedAtIsNull(any())).willReturn(List.of(menu1, anotherMenu));
+
+            CartBulkAddRequest request = new CartBulkAddRequest(List.of(
+                    new CartLineRequest(1L, 1, null),
+                    new CartLineRequest(3L, 1, null)));
+
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> cartService.addCartItems(1L, request));
+            assertEquals(ErrorCode.CART_MIXED_STORES, exception.getErrorCode());
+            verifyNoInteractions(orderRepository);
+        }
+
+        @Test
+        void 없는_메뉴가_있으면_실패() {
+            given(menuRepository.findAllByIdInAndDeletedAtIsNull(any())).willReturn(List.of(menu1));
+
+            CartBulkAddRequest request = new CartBulkAddRequest(List.of(
+                    new CartLineRequest(1L, 1, null),
+                    new CartLineRequest(99L, 1, null)));
+
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> cartService.addCartItems(1L, request));
+            assertEquals(ErrorCode.MENU_NOT_FOUND, exception.getErrorCode());
+        }
     }
 
     @Test
@@ -201,44 +356,4 @@ public class CartServiceTest {
         verify(orderRepository, times(1)).save(order1);
     }
 
-
-    @Test
-    void 스케줄러_장바구니_검사() {
-        // Given
-        Long userId1 = 1L;
-        User user1 = new User("em@em.com", "pw", "name", UserRole.USER);
-        Store store1 = new Store("name", LocalTime.of(9, 0), LocalTime.of(22, 0),
-                1000L, StoreStatus.OPEN, user1);
-        Order order1 = new Order(user1, store1, OrderState.CART);
-        ReflectionTestUtils.setField(order1, "id", 1L);
-        order1.setUpdatedAt(LocalDateTime.now().minusHours(25));
-
-        Long userId2 = 2L;
-        User user2 = new User("em2@em.com", "pw", "name", UserRole.USER);
-        Store store2 = new Store("name2", LocalTime.of(9, 0), LocalTime.of(22, 0),
-                1000L, StoreStatus.OPEN, user2);
-        Order order2 = new Order(user2, store2, OrderState.CART);
-        ReflectionTestUtils.setField(order2, "id", 2L);
-        order2.setUpdatedAt(LocalDateTime.now().minusHours(5));
-        OrderMenu orderMenu = new OrderMenu(new Menu("menu1", 10000L, "description", store1));
-        order1.addOrderMenu(orderMenu);
-        order2.addOrderMenu(orderMenu);
-        List<Order> orders = Arrays.asList(order1, order2);
-
-        when(orderRepository.findAll()).thenReturn(orders);
-
-        given(orderRepository.findByUserIdAndOrderState(userId1, OrderState.CART)).willReturn(Optional.of(order1));
-        given(orderRepository.findByUserIdAndOrderState(userId2, OrderState.CART)).willReturn(Optional.of(order2));
-
-        // When
-        cartService.cleanupCarts();
-
-        // Then
-        verify(orderRepository, times(1)).findAll();
-        verify(orderRepository, times(1)).save(order1);
-        verify(orderRepository, times(0)).save(order2);
-        assertTrue(order1.getOrderMenus().isEmpty());
-        assertFalse(order2.getOrderMenus().isEmpty());
-    }
-
 }
@@ -0,0 +1,112 @@
+package com.example.deliveryapp.domain.order.service;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.order.dto.request.OrderStateUpdateRequest;
+import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.order.repository.OrderRepository;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 각 스레드가 자기 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션은 사용하지 않음
+@DataJpaTest
+@Import(OrderService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 사장님_수락과_고객_취소가_동시에_몰려도_한_건만_성공한다() throws Exception {
+        User owner = userRepository.save(new User("owner@em.com", "pw", "owner", UserRole.OWNER));
+        User customer = userRepository.save(new User("user@em.com", "pw", "user", UserRole.USER));
+        Store store = storeRepository.save(new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                1000L, StoreStatus.OPEN, owner));
+        Order order = orderRepository.save(new Order(customer, store, OrderState.PENDING));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<OrderState>> results = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            // 짝수는 사장님 수락, 홀수는 고객 취소
+            boolean byOwner = i % 2 == 0;
+            Long userId = byOwner ? owner.getId() : customer.getId();
+            OrderState toState = byOwner ? OrderState.ACCEPTED : OrderState.CANCELED;
+            results.add(executor.submit(transition(start, userId, order.getId(), toState)));
+        }
+        start.countDown();
+
+        int winnerCount = 0;
+        int loserCount = 0;
+        OrderState winnerState = null;
+        for (Future<OrderState> result : results) {
+            OrderState state = result.get(10, TimeUnit.SECONDS);
+            if (state != null) {
+                winnerCount++;
+                winnerState = state;
+            } else {
+                loserCount++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, winnerCount);
+        assertEquals(THREAD_COUNT - 1, loserCount);
+        assertEquals(winnerState, orderRepository.findById(order.getId()).orElseThrow().getOrderState());
+    }
+
+    // 성공하면 변경된 상태, 전이 규칙 위반(CustomException)이면 null
+    private Callable<OrderState> transition(CountDownLatch start, Long userId, Long orderId, OrderState toState) {
+        return () -> {
+            start.await();
+            try {
+                return orderService.updateOrderState(userId, orderId, new OrderStateUpdateRequest(toState))
+                        .getNewState();
+            } catch (CustomException e) {
+                return null;
+            }
+        };
+    }
+}
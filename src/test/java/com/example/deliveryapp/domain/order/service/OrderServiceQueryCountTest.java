@@ -0,0 +1,96 @@
+package com.example.deliveryapp.domain.order.service;
+
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.entity.OptionItem;
+import com.example.deliveryapp.domain.order.dto.response.OrderPageResponse;
+import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.entity.OrderMenu;
+import com.example.deliveryapp.domain.order.entity.OrderMenuOption;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.deliveryapp.support.QueryCounter")
+@Import(OrderService.class)
+class OrderServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private OrderService orderService;
+
+    private Store store;
+    private Menu menu;
+    private OptionCategory optionCategory;
+
+    @BeforeEach
+    void setUp() {
+        User owner = em.persist(new User("owner@em.com", "pw", "owner", UserRole.OWNER));
+        store = em.persist(new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                1000L, StoreStatus.OPEN, owner));
+        menu = em.persist(new Menu("menu", 10000L, "description", store));
+        optionCategory = new OptionCategory("category", false, true, null, menu);
+        optionCategory.addOptionItem(new OptionItem("item1", 100L));
+        optionCategory.addOptionItem(new OptionItem("item2", 200L));
+        em.persist(optionCategory);
+    }
+
+    @Test
+    void 주문_수와_무관하게_주문_목록_조회_쿼리_수가_일정하다() {
+        User user1 = em.persist(new User("user1@em.com", "pw", "user1", UserRole.USER));
+        User user2 = em.persist(new User("user2@em.com", "pw", "user2", UserRole.USER));
+        persistOrders(user1, 1, 1);
+        persistOrders(user2, 8, 3);
+        em.persist(new Order(user2, store, OrderState.CART));
+        em.flush();
+        em.clear();
+
+        long smallSelectCount = countSelects(user1.getId(), 1);
+        long largeSelectCount = countSelects(user2.getId(), 8);
+
+        // 주문 페이지, 주문 메뉴, 주문 옵션 조회 (+ count)
+        assertEquals(smallSelectCount, largeSelectCount);
+        assertTrue(largeSelectCount <= 4, "select count: " + largeSelectCount);
+    }
+
+    private long countSelects(Long userId, int expectedOrderCount) {
+        QueryCounter.clear();
+        OrderPageResponse response = orderService.getOrdersByUserId(userId, 1, 10);
+        long selectCount = QueryCounter.getSelectCount();
+
+        // 장바구니 상태는 조회 대상에서 제외
+        assertEquals(expectedOrderCount, response.getContent().size());
+        em.clear();
+        return selectCount;
+    }
+
+    private void persistOrders(User user, int orderCount, int orderMenuCount) {
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order(user, store, OrderState.PENDING);
+            for (int j = 0; j < orderMenuCount; j++) {
+                OrderMenu orderMenu = new OrderMenu(menu);
+                optionCategory.getOptionItems()
+                        .forEach(optionItem -> orderMenu.addOrderMenuOption(new OrderMenuOption(optionItem)));
+                order.addOrderMenu(orderMenu);
+            }
+            em.persist(order);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.deliveryapp.domain.order.service;
 
 import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.order.dto.OrderStateChange;
+import com.example.deliveryapp.domain.order.dto.OrderTransitionTarget;
 import com.example.deliveryapp.domain.order.dto.request.OrderStateUpdateRequest;
+import com.example.deliveryapp.domain.order.dto.response.OrderCursorResponse;
+import com.example.deliveryapp.domain.order.dto.response.OrderPageResponse;
 import com.example.deliveryapp.domain.order.dto.response.OrderResponse;
 import com.example.deliveryapp.domain.order.entity.Order;
 import com.example.deliveryapp.domain.order.entity.OrderMenu;
@@ -19,8 +24,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +37,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -219,12 +229,14 @@ public class OrderServiceTest {
         ReflectionTestUtils.setField(order2, "id", order2Id);
         List<Order> orderList = List.of(order, order2);
 
-        given(orderRepository.findOrdersByUserId(anyLong())).willReturn(orderList);
+        given(orderRepository.findOrdersByUserIdAndOrderStateNot(anyLong(), eq(OrderState.CART), any(Pageable.class)))
+                .willReturn(new PageImpl<>(orderList));
 
-        List<OrderResponse> list = orderService.getOrdersByUserId(userId);
+        OrderPageResponse response = orderService.getOrdersByUserId(userId, 1, 10);
 
-        assertNotNull(list);
-        OrderResponse orderResponse = list.get(0);
+        assertNotNull(response);
+        assertEquals(2, response.getContent().size());
+        OrderResponse orderResponse = response.getContent().get(0);
         assertEquals(storeId, orderResponse.getStoreId());
         assertEquals(OrderState.PENDING, orderResponse.getOrderState());
         assertNotNull(orderResponse.getOrderMenus());
@@ -251,7 +263,7 @@ public class OrderServiceTest {
             given(storeRepository.findActiveStoreByIdOrThrow(anyLong())).willReturn(store);
 
             assertThrows(CustomException.class,
-                    () -> orderService.getOrdersByStoreId(userId, storeId), "올바르지 않은 사용자 권한입니다");
+                    () -> orderService.getOrdersByStoreId(userId, storeId, null, null, 10), "올바르지 않은 사용자 권한입니다");
         }
 
         @Test
@@ -274,174 +286,201 @@ public class OrderServiceTest {
             Order order2 = new Order(user2, store, OrderState.PENDING);
             ReflectionTestUtils.setField(order, "id", orderId);
             ReflectionTestUtils.setField(order2, "id", order2Id);
+            order.setCreatedAt(LocalDateTime.of(2025, 3, 1, 12, 0));
+            order2.setCreatedAt(LocalDateTime.of(2025, 3, 1, 11, 0));
             List<Order> orderList = List.of(order, order2);
 
             given(storeRepository.findActiveStoreByIdOrThrow(anyLong())).willReturn(store);
-            given(orderRepository.findOrdersByStoreId(anyLong())).willReturn(orderList);
+            given(orderRepository.findStoreOrdersFirstPage(anyLong(), eq(OrderState.PENDING), any(Pageable.class)))
+                    .willReturn(orderList);
 
-            List<OrderResponse> list = orderService.getOrdersByStoreId(userId, storeId);
+            OrderCursorResponse response = orderService.getOrdersByStoreId(userId, storeId, null, null, 10);
 
-            assertNotNull(list);
-            OrderResponse orderResponse = list.get(0);
+            assertNotNull(response);
+            assertEquals(2, response.getContent().size());
+            assertFalse(response.getHasNext());
+            assertNull(response.getNextCursor());
+            OrderResponse orderResponse = response.getContent().get(0);
             assertEquals(storeId, orderResponse.getStoreId());
             assertEquals(OrderState.PENDING, orderResponse.getOrderState());
             assertNotNull(orderResponse.getOrderMenus());
         }
-    }
 
-    @Nested
-    class updateOrderState {
         @Test
-        void 주문_정보_조회_실패() {
+        void 다음_페이지가_있으면_마지막_주문_기준_커서_반환() {
             long userId = 1L;
-            long orderId = 1L;
+            long storeId = 1L;
 
-            given(orderRepository.findById(anyLong())).willReturn(Optional.empty());
+            User user = new User("em@em.com", "pw", "name", UserRole.OWNER);
+            ReflectionTestUtils.setField(user, "id", userId);
 
-            OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.CANCELED);
+            Store store = new Store(
+                    "name", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                    1000L, StoreStatus.OPEN, user);
+            ReflectionTestUtils.setField(store, "id", storeId);
 
-            assertThrows(CustomException.class,
-                    () -> orderService.updateOrderState(userId, orderId, request), "주문 정보를 찾을 수 없습니다");
+            LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+            Order order = new Order(user, store, OrderState.PENDING);
+            Order order2 = new Order(user, store, OrderState.PENDING);
+            ReflectionTestUtils.setField(order, "id", 2L);
+            ReflectionTestUtils.setField(order2, "id", 1L);
+            order.setCreatedAt(now);
+            order2.setCreatedAt(now.minusMinutes(1));
 
-        }
+            given(storeRepository.findActiveStoreByIdOrThrow(anyLong())).willReturn(store);
+            given(orderRepository.findStoreOrdersFirstPage(anyLong(), eq(OrderState.PENDING), any(Pageable.class)))
+                    .willReturn(List.of(order, order2));
 
-        @Nested
-        class 주문_취소 {
-            @Test
-            void 주문_취소_실패_잘못된_사용자() {
-                Long userId = 1L;
-                Long otherUserId = 2L;
-                Long orderId = 1L;
+            OrderCursorResponse response = orderService.getOrdersByStoreId(
+                    userId, storeId, null, List.of(OrderState.PENDING), 1);
 
-                User user = new User("em1@em.com", "pw", "name", UserRole.USER);
-                ReflectionTestUtils.setField(user, "id", userId);
+            assertEquals(1, response.getContent().size());
+            assertTrue(response.getHasNext());
 
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
-                        1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.PENDING);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getUser(), "id", otherUserId);
+            // 반환된 커서로 다음 페이지 조회
+            given(orderRepository.findStoreOrdersAfter(
+                    eq(storeId), eq(OrderState.PENDING), eq(now), eq(2L), any(Pageable.class)))
+                    .willReturn(List.of(order2));
 
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+            OrderCursorResponse nextResponse = orderService.getOrdersByStoreId(
+                    userId, storeId, response.getNextCursor(), List.of(OrderState.PENDING), 1);
 
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.CANCELED);
+            assertEquals(1, nextResponse.getContent().size());
+            assertEquals(1L, nextResponse.getContent().get(0).getOrderId());
+            assertFalse(nextResponse.getHasNext());
+        }
 
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "올바르지 않은 사용자 권한입니다");
-            }
+        @Test
+        void 상태별로_조회한_주문을_최신순으로_병합() {
+            long userId = 1L;
+            long storeId = 1L;
 
-            @Test
-            void 주문_취소_실패_잘못된_주문_상태() {
-                long userId = 1L;
-                long orderId = 1L;
+            User user = new User("em@em.com", "pw", "name", UserRole.OWNER);
+            ReflectionTestUtils.setField(user, "id", userId);
+            Store store = new Store(
+                    "name", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                    1000L, StoreStatus.OPEN, user);
+            ReflectionTestUtils.setField(store, "id", storeId);
 
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.ACCEPTED);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getUser(), "id", userId);
+            LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+            Order pending = new Order(user, store, OrderState.PENDING);
+            Order accepted = new Order(user, store, OrderState.ACCEPTED);
+            Order oldPending = new Order(user, store, OrderState.PENDING);
+            ReflectionTestUtils.setField(pending, "id", 3L);
+            ReflectionTestUtils.setField(accepted, "id", 2L);
+            ReflectionTestUtils.setField(oldPending, "id", 1L);
+            pending.setCreatedAt(now);
+            accepted.setCreatedAt(now.minusMinutes(1));
+            oldPending.setCreatedAt(now.minusMinutes(2));
 
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+            given(storeRepository.findActiveStoreByIdOrThrow(anyLong())).willReturn(store);
+            given(orderRepository.findStoreOrdersFirstPage(eq(storeId), eq(OrderState.PENDING), any(Pageable.class)))
+                    .willReturn(List.of(pending, oldPending));
+            given(orderRepository.findStoreOrdersFirstPage(eq(storeId), eq(OrderState.ACCEPTED), any(Pageable.class)))
+                    .willReturn(List.of(accepted));
+
+            OrderCursorResponse response = orderService.getOrdersByStoreId(
+                    userId, storeId, null, List.of(OrderState.PENDING, OrderState.ACCEPTED), 2);
+
+            assertEquals(List.of(3L, 2L), response.getContent().stream().map(OrderResponse::getOrderId).toList());
+            assertTrue(response.getHasNext());
+            // 상태마다 인덱스 순서로 size + 1 건만 읽음
+            verify(orderRepository).findStoreOrdersFirstPage(storeId, OrderState.PENDING, PageRequest.of(0, 3));
+            verify(orderRepository).findStoreOrdersFirstPage(storeId, OrderState.ACCEPTED, PageRequest.of(0, 3));
+        }
 
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.CANCELED);
+        @Test
+        void 잘못된_커서_예외_발생() {
+            long userId = 1L;
 
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "배달이 완료되었거나 진행 중인 주문은 취소할 수 없습니다");
-            }
+            User user = new User("em@em.com", "pw", "name", UserRole.OWNER);
+            ReflectionTestUtils.setField(user, "id", userId);
+            Store store = new Store(
+                    "name", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                    1000L, StoreStatus.OPEN, user);
 
-            @Test
-            void 주문_취소_성공() {
-                long userId = 1L;
-                long orderId = 1L;
+            given(storeRepository.findActiveStoreByIdOrThrow(anyLong())).willReturn(store);
 
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.PENDING);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getUser(), "id", userId);
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> orderService.getOrdersByStoreId(userId, 1L, "not-a-cursor", null, 10));
+            assertEquals(ErrorCode.INVALID_ORDER_CURSOR, exception.getErrorCode());
+        }
+    }
 
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+    @Nested
+    class updateOrderState {
+        private final long userId = 1L;
+        private final long otherUserId = 2L;
+        private final long orderId = 1L;
+        private final long storeId = 10L;
 
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.CANCELED);
+        @Test
+        void 주문_정보_조회_실패() {
+            given(orderRepository.transitionByCustomer(eq(orderId), eq(userId), any(), any(), any())).willReturn(0);
+            given(orderRepository.findTransitionTargetById(orderId)).willReturn(Optional.empty());
 
-                orderService.updateOrderState(userId, orderId, request);
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> orderService.updateOrderState(userId, orderId, new OrderStateUpdateRequest(OrderState.CANCELED)));
+            assertEquals(ErrorCode.ORDER_NOT_FOUND, exception.getErrorCode());
+        }
 
-                assertEquals(OrderState.CANCELED, order.getOrderState());
-            }
+        @Test
+        void 전이할_수_없는_상태_요청() {
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> orderService.updateOrderState(userId, orderId, new OrderStateUpdateRequest(OrderState.CART)));
+            assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
         }
 
         @Nested
-        class 주문_수락 {
+        class 주문_취소 {
             @Test
-            void 주문_수락_실패_잘못된_사용자() {
-                Long userId = 1L;
-                Long otherUserId = 2L;
-                Long orderId = 1L;
-
-                User user = new User("em1@em.com", "pw", "name", UserRole.USER);
-                ReflectionTestUtils.setField(user, "id", userId);
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.PENDING);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", otherUserId);
-
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.ACCEPTED);
+            void 주문_취소_실패_잘못된_사용자() {
+                givenCustomerTransitionFails(OrderState.PENDING, otherUserId);
 
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "올바르지 않은 사용자 권한입니다");
+                assertTransitionFails(OrderState.CANCELED, ErrorCode.INVALID_USER_ROLE);
             }
 
             @Test
-            void 주문_수락_실패_잘못된_주문_상태() {
-                long userId = 1L;
-                long orderId = 1L;
+            void 주문_취소_실패_잘못된_주문_상태() {
+                givenCustomerTransitionFails(OrderState.ACCEPTED, userId);
 
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.ACCEPTED);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", userId);
+                assertTransitionFails(OrderState.CANCELED, ErrorCode.ORDER_CANNOT_BE_CANCELED);
+            }
 
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+            @Test
+            void 주문_취소_성공() {
+                given(orderRepository.transitionByCustomer(eq(orderId), eq(userId),
+                        eq(OrderState.PENDING), eq(OrderState.CANCELED), any(LocalDateTime.class))).willReturn(1);
+                given(orderRepository.findStoreIdById(orderId)).willReturn(storeId);
 
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.ACCEPTED);
+                OrderStateChange stateChange = orderService.updateOrderState(
+                        userId, orderId, new OrderStateUpdateRequest(OrderState.CANCELED));
 
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "대기 중인 주문만 수락할 수 있습니다");
+                assertEquals(storeId, stateChange.getStoreId());
+                assertEquals(OrderState.PENDING, stateChange.getPrevState());
+                assertEquals(OrderState.CANCELED, stateChange.getNewState());
             }
+        }
 
+        @Nested
+        class 주문_수락 {
             @Test
-            void 주문_수락_성공() {
-                long userId = 1L;
-                long orderId = 1L;
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.PENDING);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", userId);
+            void 주문_수락_실패_잘못된_사용자() {
+                givenStoreOwnerTransitionFails(OrderState.PENDING, otherUserId);
 
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+                assertTransitionFails(OrderState.ACCEPTED, ErrorCode.INVALID_USER_ROLE);
+            }
 
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.ACCEPTED);
+            @Test
+            void 주문_수락_실패_잘못된_주문_상태() {
+                givenStoreOwnerTransitionFails(OrderState.ACCEPTED, userId);
 
-                orderService.updateOrderState(userId, orderId, request);
+                assertTransitionFails(OrderState.ACCEPTED, ErrorCode.ORDER_CANNOT_BE_ACCEPTED);
+            }
 
-                assertEquals(OrderState.ACCEPTED, order.getOrderState());
+            @Test
+            void 주문_수락_성공() {
+                assertStoreOwnerTransitionSucceeds(OrderState.PENDING, OrderState.ACCEPTED);
             }
         }
 
@@ -449,69 +488,21 @@ public class OrderServiceTest {
         class 주문_거절 {
             @Test
             void 주문_거절_실패_잘못된_사용자() {
-                Long userId = 1L;
-                Long otherUserId = 2L;
-                Long orderId = 1L;
-
-                User user = new User("em1@em.com", "pw", "name", UserRole.USER);
-                ReflectionTestUtils.setField(user, "id", userId);
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.PENDING);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", otherUserId);
+                givenStoreOwnerTransitionFails(OrderState.PENDING, otherUserId);
 
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.REJECTED);
-
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "올바르지 않은 사용자 권한입니다");
+                assertTransitionFails(OrderState.REJECTED, ErrorCode.INVALID_USER_ROLE);
             }
 
             @Test
             void 주문_거절_실패_잘못된_주문_상태() {
-                long userId = 1L;
-                long orderId = 1L;
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.ACCEPTED);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", userId);
-
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+                givenStoreOwnerTransitionFails(OrderState.DELIVERY, userId);
 
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.REJECTED);
-
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "대기 중인 주문만 거절할 수 있습니다");
+                assertTransitionFails(OrderState.REJECTED, ErrorCode.ORDER_CANNOT_BE_REJECTED);
             }
 
             @Test
             void 주문_거절_성공() {
-                long userId = 1L;
-                long orderId = 1L;
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.PENDING);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", userId);
-
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.REJECTED);
-
-                orderService.updateOrderState(userId, orderId, request);
-
-                assertEquals(OrderState.REJECTED, order.getOrderState());
+                assertStoreOwnerTransitionSucceeds(OrderState.PENDING, OrderState.REJECTED);
             }
         }
 
@@ -519,69 +510,21 @@ public class OrderServiceTest {
         class 배달_시작 {
             @Test
             void 배달_시작_실패_잘못된_사용자() {
-                Long userId = 1L;
-                Long otherUserId = 2L;
-                Long orderId = 1L;
-
-                User user = new User("em1@em.com", "pw", "name", UserRole.USER);
-                ReflectionTestUtils.setField(user, "id", userId);
+                givenStoreOwnerTransitionFails(OrderState.ACCEPTED, otherUserId);
 
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.ACCEPTED);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", otherUserId);
-
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.DELIVERY);
-
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "올바르지 않은 사용자 권한입니다");
+                assertTransitionFails(OrderState.DELIVERY, ErrorCode.INVALID_USER_ROLE);
             }
 
             @Test
             void 배달_시작_실패_잘못된_주문_상태() {
-                long userId = 1L;
-                long orderId = 1L;
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.PENDING);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", userId);
+                givenStoreOwnerTransitionFails(OrderState.PENDING, userId);
 
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.DELIVERY);
-
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "수락된 주문만 배달을 시작할 수 있습니다");
+                assertTransitionFails(OrderState.DELIVERY, ErrorCode.ORDER_CANNOT_BE_DELIVERY);
             }
 
             @Test
             void 배달_시작_성공() {
-                long userId = 1L;
-                long orderId = 1L;
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.ACCEPTED);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", userId);
-
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.DELIVERY);
-
-                orderService.updateOrderState(userId, orderId, request);
-
-                assertEquals(OrderState.DELIVERY, order.getOrderState());
+                assertStoreOwnerTransitionSucceeds(OrderState.ACCEPTED, OrderState.DELIVERY);
             }
         }
 
@@ -589,69 +532,53 @@ public class OrderServiceTest {
         class 배달_완료 {
             @Test
             void 배달_완료_실패_잘못된_사용자() {
-                Long userId = 1L;
-                Long otherUserId = 2L;
-                Long orderId = 1L;
+                givenStoreOwnerTransitionFails(OrderState.DELIVERY, otherUserId);
 
-                User user = new User("em1@em.com", "pw", "name", UserRole.USER);
-                ReflectionTestUtils.setField(user, "id", userId);
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.DELIVERY);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", otherUserId);
-
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.COMPLETED);
-
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request), "올바르지 않은 사용자 권한입니다");
+                assertTransitionFails(OrderState.COMPLETED, ErrorCode.INVALID_USER_ROLE);
             }
 
             @Test
             void 배달_완료_실패_잘못된_주문_상태() {
-                long userId = 1L;
-                long orderId = 1L;
-
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.PENDING);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", userId);
-
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.COMPLETED);
+                givenStoreOwnerTransitionFails(OrderState.PENDING, userId);
 
-                assertThrows(CustomException.class,
-                        () -> orderService.updateOrderState(userId, orderId, request),
-                        "배달 시작된 주문만 배달 완료 처리할 수 있습니다");
+                assertTransitionFails(OrderState.COMPLETED, ErrorCode.ORDER_CANNOT_BE_COMPLETED);
             }
 
             @Test
             void 배달_완료_성공() {
-                long userId = 1L;
-                long orderId = 1L;
+                assertStoreOwnerTransitionSucceeds(OrderState.DELIVERY, OrderState.COMPLETED);
+            }
+        }
 
-                Order order = new Order(new User("test@email.com", "pw", "test", UserRole.USER)
-                        , new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59)
-                        , 1000L, StoreStatus.OPEN
-                        , new User("em2@em.com", "pw", "name", UserRole.USER)), OrderState.DELIVERY);
-                ReflectionTestUtils.setField(order, "id", orderId);
-                ReflectionTestUtils.setField(order.getStore().getUser(), "id", userId);
+        // 조건부 UPDATE 가 0건이면 현재 주문 상태와 주문자를 확인해 원인을 판단
+        private void givenCustomerTransitionFails(OrderState currentState, Long orderUserId) {
+            given(orderRepository.transitionByCustomer(eq(orderId), eq(userId), any(), any(), any())).willReturn(0);
+            given(orderRepository.findTransitionTargetById(orderId))
+                    .willReturn(Optional.of(new OrderTransitionTarget(orderId, currentState, orderUserId, 3L)));
+        }
 
-                given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        private void givenStoreOwnerTransitionFails(OrderState currentState, Long storeOwnerId) {
+            given(orderRepository.transitionByStoreOwner(eq(orderId), eq(userId), any(), any(), any())).willReturn(0);
+            given(orderRepository.findTransitionTargetById(orderId))
+                    .willReturn(Optional.of(new OrderTransitionTarget(orderId, currentState, 3L, storeOwnerId)));
+        }
 
-                OrderStateUpdateRequest request = new OrderStateUpdateRequest(OrderState.COMPLETED);
+        private void assertTransitionFails(OrderState toState, ErrorCode errorCode) {
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> orderService.updateOrderState(userId, orderId, new OrderStateUpdateRequest(toState)));
+            assertEquals(errorCode, exception.getErrorCode());
+        }
 
-                orderService.updateOrderState(userId, orderId, request);
+        private void assertStoreOwnerTransitionSucceeds(OrderState fromState, OrderState toState) {
+            given(orderRepository.transitionByStoreOwner(eq(orderId), eq(userId),
+                    eq(fromState), eq(toState), any(LocalDateTime.class))).willReturn(1);
+            given(orderRepository.findStoreIdById(orderId)).willReturn(storeId);
 
-                assertEquals(OrderState.COMPLETED, order.getOrderState());
-            }
+            OrderStateChange stateChange = orderService.updateOrderState(
+                    userId, orderId, new OrderStateUpdateRequest(toState));
+
+            assertEquals(fromState, stateChange.getPrevState());
+            assertEquals(toState, stateChange.getNewState());
         }
     }
 
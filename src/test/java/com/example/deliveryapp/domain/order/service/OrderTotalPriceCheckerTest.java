@@ -0,0 +1,124 @@
+package com.example.deliveryapp.domain.order.service;
+
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.menu.entity.OptionCategory;
+import com.example.deliveryapp.domain.menu.entity.OptionItem;
+import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.entity.OrderMenu;
+import com.example.deliveryapp.domain.order.entity.OrderMenuOption;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(OrderTotalPriceChecker.class)
+class OrderTotalPriceCheckerTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private OrderTotalPriceChecker orderTotalPriceChecker;
+
+    private Order order;
+    private OrderMenu orderMenu;
+
+    @BeforeEach
+    void setUp() {
+        User owner = em.persist(new User("owner@em.com", "pw", "owner", UserRole.OWNER));
+        User user = em.persist(new User("user@em.com", "pw", "user", UserRole.USER));
+        Store store = em.persist(new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                1000L, StoreStatus.OPEN, owner));
+        Menu menu = em.persist(new Menu("menu", 10000L, "description", store));
+        OptionCategory optionCategory = new OptionCategory("category", false, true, null, menu);
+        optionCategory.addOptionItem(new OptionItem("item1", 100L));
+        optionCategory.addOptionItem(new OptionItem("item2", 200L));
+        em.persist(optionCategory);
+
+        order = new Order(user, store, OrderState.PENDING);
+        orderMenu = new OrderMenu(menu);
+        optionCategory.getOptionItems()
+                .forEach(optionItem -> orderMenu.addOrderMenuOption(new OrderMenuOption(optionItem)));
+        order.addOrderMenu(orderMenu);
+        order.addOrderMenu(new OrderMenu(menu));
+        em.persist(order);
+        em.flush();
+    }
+
+    @Test
+    void 주문_항목을_담을_때_합계를_함께_갱신한다() {
+        assertEquals(10300L, orderMenu.getTotalPrice());
+        assertEquals(20300L, order.getTotalPrice());
+        assertEquals(order.calculateTotalPrice(), order.getTotalPrice());
+
+        order.removeOrderMenu(orderMenu);
+
+        assertEquals(10000L, order.getTotalPrice());
+        assertEquals(order.calculateTotalPrice(), order.getTotalPrice());
+    }
+
+    @Test
+    void 합계가_일치하면_불일치가_없다() {
+        assertEquals(0, orderTotalPriceChecker.check());
+    }
+
+    @Test
+    void 주문_메뉴_합계가_틀리면_바로잡고_주문_합계도_맞춘다() {
+        updateTotalPrice("order_menus", orderMenu.getId(), 1L);
+        updateTotalPrice("orders", order.getId(), 1L);
+        em.clear();
+
+        // 주문 메뉴 1건 + 주문 1건
+        assertEquals(2, orderTotalPriceChecker.check());
+        em.clear();
+
+        assertEquals(0, orderTotalPriceChecker.check());
+        assertEquals(10300L, em.find(OrderMenu.class, orderMenu.getId()).getTotalPrice());
+        assertEquals(20300L, em.find(Order.class, order.getId()).getTotalPrice());
+    }
+
+    @Test
+    void 합계_컬럼이_비어있던_기존_주문을_항목_기준으로_채운다() {
+        // total_price 컬럼 추가 전에 만들어진 행
+        updateTotalPrice("order_menus", orderMenu.getId(), 0L);
+        updateTotalPrice("orders", order.getId(), 0L);
+        em.clear();
+
+        // 주문 메뉴 1건 + 주문 1건
+        assertEquals(2, orderTotalPriceChecker.backfill());
+        em.clear();
+
+        assertEquals(10300L, em.find(OrderMenu.class, orderMenu.getId()).getTotalPrice());
+        assertEquals(20300L, em.find(Order.class, order.getId()).getTotalPrice());
+        assertEquals(0, orderTotalPriceChecker.backfill());
+    }
+
+    @Test
+    void 비어_있는_장바구니는_합계가_0_이어도_다시_채우지_않는다() {
+        em.persist(new Order(order.getUser(), order.getStore(), OrderState.CART));
+        em.flush();
+        em.clear();
+
+        assertEquals(0, orderTotalPriceChecker.backfill());
+    }
+
+    private void updateTotalPrice(String table, Long id, Long totalPrice) {
+        em.getEntityManager()
+                .createNativeQuery("UPDATE " + table + " SET total_price = :totalPrice WHERE id = :id")
+                .setParameter("totalPrice", totalPrice)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.deliveryapp.domain.order.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEventHubTest {
+
+    private OrderEventHub orderEventHub;
+
+    @BeforeEach
+    void setUp() {
+        orderEventHub = new OrderEventHub(new SimpleMeterRegistry(), 3, 10, 60_000L, 1, 1_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderEventHub.shutdown();
+    }
+
+    @Test
+    void 이벤트_id_는_가게와_무관하게_증가한다() {
+        OrderEvent first = orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "a");
+        OrderEvent second = orderEventHub.publish(2L, OrderEvent.ORDER_CREATED, "b");
+        OrderEvent third = orderEventHub.publish(1L, OrderEvent.ORDER_STATE_CHANGED, "c");
+
+        assertTrue(first.getId() < second.getId());
+        assertTrue(second.getId() < third.getId());
+    }
+
+    @Test
+    void 마지막으로_받은_이벤트_이후만_다시_보낸다() {
+        OrderEvent first = orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "a");
+        OrderEvent second = orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "b");
+        orderEventHub.publish(2L, OrderEvent.ORDER_CREATED, "other store");
+        OrderEvent third = orderEventHub.publish(1L, OrderEvent.ORDER_STATE_CHANGED, "c");
+
+        List<OrderEvent> missedEvents = orderEventHub.eventsAfter(1L, first.getId());
+
+        assertEquals(List.of(second.getId(), third.getId()), missedEvents.stream().map(OrderEvent::getId).toList());
+    }
+
+    @Test
+    void 가게별로_최근_이벤트만_보관한다() {
+        for (int i = 0; i < 5; i++) {
+            orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, i);
+        }
+
+        List<OrderEvent> events = orderEventHub.eventsAfter(1L, null);
+
+        assertEquals(3, events.size());
+        assertEquals(List.of(2, 3, 4), events.stream().map(OrderEvent::getData).toList());
+    }
+
+    @Test
+    void 구독자_수를_집계한다() {
+        orderEventHub.subscribe(1L, null);
+        orderEventHub.subscribe(1L, null);
+        orderEventHub.subscribe(2L, null);
+
+        assertEquals(3, orderEventHub.getSubscriberCount());
+    }
+
+    @Test
+    void 구독자가_없고_오래_조용한_채널은_정리한다() {
+        orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "a");
+        orderEventHub.publish(2L, OrderEvent.ORDER_CREATED, "b");
+        orderEventHub.subscribe(2L, null);
+
+        int pruned = orderEventHub.pruneIdleChannels(System.currentTimeMillis() + 1_000L);
+
+        assertEquals(1, pruned);
+        assertEquals(1, orderEventHub.getChannelCount());
+        assertEquals(1, orderEventHub.getSubscriberCount());
+    }
+
+    @Test
+    void 정리된_채널의_이전_이벤트로_재연결하면_RESYNC_를_보낸다() {
+        OrderEvent before = orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "a");
+        orderEventHub.pruneIdleChannels(System.currentTimeMillis() + 1_000L);
+        OrderEvent after = orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "b");
+
+        List<OrderEvent> replay = orderEventHub.replayFor(1L, before.getId());
+
+        assertEquals(1, replay.size());
+        assertEquals(OrderEvent.RESYNC, replay.get(0).getName());
+        assertEquals(after.getId(), replay.get(0).getId());
+    }
+
+    @Test
+    void 아직_발급되지_않은_id_로_재연결하면_RESYNC_를_보낸다() {
+        OrderEvent latest = orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "a");
+
+        // 재시작 전 프로세스가 발급한 id
+        List<OrderEvent> replay = orderEventHub.replayFor(1L, latest.getId() + 100);
+
+        assertEquals(1, replay.size());
+        assertEquals(OrderEvent.RESYNC, replay.get(0).getName());
+        assertEquals(latest.getId(), replay.get(0).getId());
+    }
+
+    @Test
+    void 보관_중인_이벤트_이후로_재연결하면_놓친_이벤트를_보낸다() {
+        OrderEvent first = orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "a");
+        OrderEvent second = orderEventHub.publish(1L, OrderEvent.ORDER_CREATED, "b");
+
+        List<OrderEvent> replay = orderEventHub.replayFor(1L, first.getId());
+
+        assertEquals(List.of(second.getId()), replay.stream().map(OrderEvent::getId).toList());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.deliveryapp.domain.review.service;
+
+import com.example.deliveryapp.domain.menu.entity.Menu;
+import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.entity.OrderMenu;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.review.dto.ReviewResponseDto;
+import com.example.deliveryapp.domain.review.entity.Review;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.store.service.StoreReviewStatsService;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.deliveryapp.support.QueryCounter")
+@Import({ReviewService.class, StoreReviewStatsService.class})
+class ReviewServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Test
+    void 가게_리뷰_페이지는_조회와_카운트_두_번의_쿼리로_끝난다() {
+        User owner = em.persist(new User("owner@em.com", "pw", "owner", UserRole.OWNER));
+        Store store = em.persist(new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                1000L, StoreStatus.OPEN, owner));
+        Menu firstMenu = em.persist(new Menu("first", 10000L, "description", store));
+        Menu secondMenu = em.persist(new Menu("second", 10000L, "description", store));
+
+        for (int i = 0; i < 5; i++) {
+            User user = em.persist(new User("user" + i + "@em.com", "pw", "user" + i, UserRole.USER));
+            Order order = new Order(user, store, OrderState.COMPLETED);
+            order.addOrderMenu(new OrderMenu(firstMenu));
+            order.addOrderMenu(new OrderMenu(secondMenu));
+            em.persist(order);
+            em.persist(new Review(user, order, "content" + i, 5));
+        }
+        em.flush();
+        em.clear();
+
+        QueryCounter.clear();
+        Page<ReviewResponseDto> reviews = reviewService.getReviewsByStoreId(store.getId(), null, null, 0, 3);
+
+        // 리뷰 페이지 조회 + count
+        assertEquals(2, QueryCounter.getSelectCount());
+        assertEquals(3, reviews.getContent().size());
+        assertEquals(5, reviews.getTotalElements());
+        reviews.forEach(review -> assertEquals("first", review.getMenuName()));
+    }
+}
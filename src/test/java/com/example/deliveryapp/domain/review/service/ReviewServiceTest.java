@@ -1,11 +1,14 @@
 package com.example.deliveryapp.domain.review.service;
 
 import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.entity.OrderMenu;
 import com.example.deliveryapp.domain.order.enums.OrderState;
 import com.example.deliveryapp.domain.review.dto.ReviewRequestDto;
 import com.example.deliveryapp.domain.review.dto.ReviewResponseDto;
 import com.example.deliveryapp.domain.review.entity.Review;
 import com.example.deliveryapp.domain.review.repository.ReviewRepository;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.service.StoreReviewStatsService;
 import com.example.deliveryapp.domain.order.repository.OrderRepository;
 import com.example.deliveryapp.domain.user.entity.User;
 import com.example.deliveryapp.domain.user.repository.UserRepository;
@@ -16,12 +19,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.BDDMockito.given;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,6 +51,9 @@ class ReviewServiceTest {
     @Mock
     private OrderMenuRepository orderMenuRepository;
 
+    @Mock
+    private StoreReviewStatsService storeReviewStatsService;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -63,7 +77,9 @@ class ReviewServiceTest {
         ReflectionTestUtils.setField(user, "id", userId);
 
         // Order 객체 생성 (OrderState: COMPLETED 상태)
-        Order order = new Order(user, null, OrderState.COMPLETED);
+        Store store = mock(Store.class);
+        given(store.getId()).willReturn(1L);
+        Order order = new Order(user, store, OrderState.COMPLETED);
 
         // ReflectionTestUtils을 사용하여 Order 객체에 ID 설정
         ReflectionTestUtils.setField(order, "id", orderId);
@@ -83,6 +99,7 @@ class ReviewServiceTest {
         assertNotNull(result);
         assertEquals(content, result.getContent());
         assertEquals(rating, result.getRating());
+        verify(storeReviewStatsService).addRating(1L, rating);
     }
 
     // 2. 배달 완료되지 않은 주문에 대한 리뷰 작성 시 오류 발생
@@ -206,4 +223,49 @@ class ReviewServiceTest {
         // then
         assertEquals("리뷰 저장 실패", exception.getMessage());
     }
+
+    // 6. 가게 리뷰 조회 시 별점 범위 기본값 적용
+    @Test
+    public void 가게_리뷰_조회_별점_기본값() {
+        // given
+        Long storeId = 1L;
+        ReviewResponseDto responseDto = new ReviewResponseDto("userName", 5, "Great food!", "menu1", LocalDateTime.now());
+        given(reviewRepository.findReviewResponsesByStoreId(eq(storeId), eq(1), eq(5), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(responseDto)));
+
+        // when
+        Page<ReviewResponseDto> result = reviewService.getReviewsByStoreId(storeId, null, null, 0, 10);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertEquals("menu1", result.getContent().get(0).getMenuName());
+    }
+
+    // 7. 리뷰 수정 시 주문의 첫 번째 메뉴 이름 반환
+    @Test
+    public void 리뷰_수정_첫번째_메뉴_이름() {
+        // given
+        Long reviewId = 1L;
+        Long orderId = 1L;
+        User user = new User("user@example.com", "password", "userName", UserRole.USER);
+        Order order = new Order(user, null, OrderState.COMPLETED);
+        ReflectionTestUtils.setField(order, "id", orderId);
+        Review review = new Review(user, order, "content", 3);
+
+        OrderMenu orderMenu = mock(OrderMenu.class);
+        given(orderMenu.getName()).willReturn("menu1");
+
+        given(reviewRepository.findWithUserById(reviewId)).willReturn(Optional.of(review));
+        given(reviewRepository.save(any(Review.class))).willReturn(review);
+        given(orderMenuRepository.findFirstByOrderIdOrderByIdAsc(orderId)).willReturn(Optional.of(orderMenu));
+
+        // when
+        ReviewResponseDto result = reviewService.updateReview(reviewId, new ReviewRequestDto(orderId, "updated", 4));
+
+        // then
+        assertEquals("updated", result.getContent());
+        assertEquals(4, result.getRating());
+        assertEquals("menu1", result.getMenuName());
+        verify(storeReviewStatsService).changeRating(any(), eq(3), eq(4));
+    }
 }
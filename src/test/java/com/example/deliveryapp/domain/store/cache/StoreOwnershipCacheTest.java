@@ -0,0 +1,93 @@
+package com.example.deliveryapp.domain.store.cache;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.menu.repository.MenuRepository;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreOwnershipCacheTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    private StoreOwnershipCache storeOwnershipCache;
+
+    @BeforeEach
+    void setUp() {
+        storeOwnershipCache = new StoreOwnershipCache(storeRepository, menuRepository, new SimpleMeterRegistry(), 100L, 3600L);
+    }
+
+    @Test
+    void 캐시가_채워지면_소유권_검사에_쿼리가_없다() {
+        given(menuRepository.findStoreIdByMenuId(10L)).willReturn(Optional.of(1L));
+        given(storeRepository.findOwnerIdByStoreIdIfActive(1L)).willReturn(Optional.of(100L));
+        storeOwnershipCache.getOwnerIdByMenuId(10L);
+        clearInvocations(storeRepository, menuRepository);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(100L, storeOwnershipCache.getOwnerIdByMenuId(10L));
+            assertEquals(100L, storeOwnershipCache.getOwnerId(1L));
+        }
+
+        verifyNoInteractions(storeRepository, menuRepository);
+        assertEquals(1000L, storeOwnershipCache.menuStoreStats().hitCount());
+        assertEquals(2000L, storeOwnershipCache.storeOwnerStats().hitCount());
+    }
+
+    @Test
+    void 없거나_삭제된_가게와_메뉴는_캐시하지_않고_예외가_발생한다() {
+        given(storeRepository.findOwnerIdByStoreIdIfActive(1L)).willReturn(Optional.empty());
+        given(menuRepository.findStoreIdByMenuId(10L)).willReturn(Optional.empty());
+
+        CustomException storeException = assertThrows(CustomException.class, () -> storeOwnershipCache.getOwnerId(1L));
+        assertThrows(CustomException.class, () -> storeOwnershipCache.getOwnerId(1L));
+        CustomException menuException = assertThrows(CustomException.class, () -> storeOwnershipCache.getStoreId(10L));
+
+        assertEquals(ErrorCode.STORE_NOT_FOUND, storeException.getErrorCode());
+        assertEquals(ErrorCode.MENU_NOT_FOUND, menuException.getErrorCode());
+        verify(storeRepository, times(2)).findOwnerIdByStoreIdIfActive(1L);
+    }
+
+    @Test
+    void 가게가_삭제되면_다시_조회한다() {
+        given(storeRepository.findOwnerIdByStoreIdIfActive(1L))
+                .willReturn(Optional.of(100L))
+                .willReturn(Optional.empty());
+
+        storeOwnershipCache.getOwnerId(1L);
+        storeOwnershipCache.evictStore(1L);
+
+        assertThrows(CustomException.class, () -> storeOwnershipCache.getOwnerId(1L));
+        verify(storeRepository, times(2)).findOwnerIdByStoreIdIfActive(1L);
+    }
+
+    @Test
+    void 메뉴가_삭제되면_다시_조회한다() {
+        given(menuRepository.findStoreIdByMenuId(10L))
+                .willReturn(Optional.of(1L))
+                .willReturn(Optional.empty());
+
+        storeOwnershipCache.getStoreId(10L);
+        storeOwnershipCache.evictMenu(10L);
+
+        assertThrows(CustomException.class, () -> storeOwnershipCache.getStoreId(10L));
+        verify(menuRepository, times(2)).findStoreIdByMenuId(10L);
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.deliveryapp.domain.store.controller;
 
+import com.example.deliveryapp.config.JwtFilter;
+import com.example.deliveryapp.domain.common.dto.AuthUser;
+import com.example.deliveryapp.domain.user.enums.UserRole;
 import com.example.deliveryapp.domain.store.dto.request.StoreSaveRequest;
 import com.example.deliveryapp.domain.store.dto.request.StoreUpdateRequest;
 import com.example.deliveryapp.domain.store.dto.response.StorePageResponse;
@@ -77,10 +80,7 @@ class StoreControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(storeSaveRequest))
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk())
@@ -107,10 +107,7 @@ class StoreControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(storeUpdateRequest))
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk())
@@ -123,10 +120,7 @@ class StoreControllerTest {
 
         mockMvc.perform(MockMvcRequestBuilders.delete("/stores/{storeId}", storeId)
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "em@em.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "em@em.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk());
@@ -0,0 +1,127 @@
+package com.example.deliveryapp.domain.store.service;
+
+import com.example.deliveryapp.domain.order.entity.Order;
+import com.example.deliveryapp.domain.order.enums.OrderState;
+import com.example.deliveryapp.domain.order.repository.OrderRepository;
+import com.example.deliveryapp.domain.review.entity.Review;
+import com.example.deliveryapp.domain.review.repository.ReviewRepository;
+import com.example.deliveryapp.domain.store.entity.Store;
+import com.example.deliveryapp.domain.store.entity.StoreReviewStats;
+import com.example.deliveryapp.domain.store.enums.StoreStatus;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.example.deliveryapp.domain.store.repository.StoreReviewStatsRepository;
+import com.example.deliveryapp.domain.user.entity.User;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 집계 행은 별도 트랜잭션에서 만들어지므로 미리 넣은 리뷰가 커밋되어 있어야 함, 테스트 트랜잭션은 사용하지 않음
+@DataJpaTest
+@Import(StoreReviewStatsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StoreReviewStatsServiceBackfillTest {
+
+    @Autowired
+    private StoreReviewStatsService storeReviewStatsService;
+
+    @Autowired
+    private StoreReviewStatsRepository storeReviewStatsRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User customer;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(new User("owner@em.com", "pw", "owner", UserRole.OWNER));
+        customer = userRepository.save(new User("user@em.com", "pw", "user", UserRole.USER));
+        // 집계 테이블이 생기기 전부터 있던 가게와 리뷰 (집계 행 없음)
+        store = storeRepository.save(new Store("store", LocalTime.of(0, 0), LocalTime.of(23, 59),
+                1000L, StoreStatus.OPEN, owner));
+        saveReview(5);
+        saveReview(4);
+        saveReview(4);
+        assertFalse(storeReviewStatsRepository.existsById(store.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAllInBatch();
+        storeReviewStatsRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 집계_행이_없는_가게에_리뷰를_더하면_기존_리뷰까지_반영한다() {
+        // ReviewService.createReview 와 같이 리뷰 저장과 집계 반영을 한 트랜잭션에서 처리
+        transactionTemplate.executeWithoutResult(status -> {
+            saveReview(3);
+            storeReviewStatsService.addRating(store.getId(), 3);
+        });
+
+        StoreReviewStats stats = storeReviewStatsRepository.findById(store.getId()).orElseThrow();
+        assertEquals(4L, stats.getReviewCount());
+        assertEquals(16L, stats.getRatingSum());
+        assertEquals(1L, stats.getFiveStarCount());
+        assertEquals(2L, stats.getFourStarCount());
+        assertEquals(1L, stats.getThreeStarCount());
+    }
+
+    @Test
+    void 집계_행이_없는_가게의_기존_리뷰를_지워도_음수가_되지_않는다() {
+        Review review = reviewRepository.findAll().get(0);
+        int rating = review.getRating();
+        transactionTemplate.executeWithoutResult(status -> {
+            reviewRepository.deleteById(review.getId());
+            storeReviewStatsService.removeRating(store.getId(), rating);
+        });
+
+        StoreReviewStats stats = storeReviewStatsRepository.findById(store.getId()).orElseThrow();
+        assertEquals(2L, stats.getReviewCount());
+        assertEquals(13L - rating, stats.getRatingSum());
+    }
+
+    @Test
+    void 가게_목록_조회_시_집계_행이_없으면_기존_리뷰로_채워_만든다() {
+        StoreReviewStats stats = storeReviewStatsService.findAllByStoreIds(List.of(store.getId())).get(store.getId());
+
+        assertEquals(3L, stats.getReviewCount());
+        assertEquals(13.0 / 3, stats.getAverageRating());
+        assertEquals(3L, storeReviewStatsRepository.findById(store.getId()).orElseThrow().getReviewCount());
+    }
+
+    private void saveReview(int rating) {
+        Order order = orderRepository.save(new Order(customer, store, OrderState.COMPLETED));
+        reviewRepository.save(new Review(customer, order, "content", rating));
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.deliveryapp.domain.store.service;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.review.repository.ReviewRepository;
+import com.example.deliveryapp.domain.store.dto.ReviewRatingCount;
+import com.example.deliveryapp.domain.store.entity.StoreReviewStats;
+import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.example.deliveryapp.domain.store.repository.StoreReviewStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreReviewStatsServiceTest {
+
+    @Mock
+    private StoreReviewStatsRepository storeReviewStatsRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreReviewStatsService storeReviewStatsService;
+
+    @BeforeEach
+    void setUp() {
+        storeReviewStatsService = new StoreReviewStatsService(
+                storeReviewStatsRepository, reviewRepository, storeRepository, transactionManager);
+    }
+
+    @Test
+    void 별점_변경_시_이전_별점을_빼고_새_별점을_더한다() {
+        given(storeReviewStatsRepository.existsById(1L)).willReturn(true);
+
+        storeReviewStatsService.changeRating(1L, 3, 5);
+
+        verify(storeReviewStatsRepository).applyRating(1L, 3, -1L);
+        verify(storeReviewStatsRepository).applyRating(1L, 5, 1L);
+        verify(storeReviewStatsRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void 별점이_같으면_집계를_갱신하지_않는다() {
+        storeReviewStatsService.changeRating(1L, 4, 4);
+
+        verifyNoInteractions(storeReviewStatsRepository);
+    }
+
+    @Test
+    void 집계_행이_없으면_별도_트랜잭션에서_기존_리뷰로_채워_생성_후_반영한다() {
+        StoreReviewStats stats = new StoreReviewStats(1L);
+        given(storeReviewStatsRepository.existsById(1L)).willReturn(false);
+        given(storeReviewStatsRepository.findByIdForUpdate(1L)).willReturn(Optional.of(stats));
+        given(reviewRepository.countByRatingForStore(1L)).willReturn(List.of(
+                new ReviewRatingCount(1L, 4, 2L)
+        ));
+
+        storeReviewStatsService.addRating(1L, 5);
+
+        verify(storeReviewStatsRepository).saveAndFlush(any(StoreReviewStats.class));
+        assertEquals(2L, stats.getReviewCount());
+        assertEquals(8L, stats.getRatingSum());
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(storeReviewStatsRepository).applyRating(1L, 5, 1L);
+    }
+
+    @Test
+    void 다른_요청이_먼저_집계_행을_만들었으면_그_행에_반영한다() {
+        given(storeReviewStatsRepository.existsById(1L)).willReturn(false);
+        given(storeReviewStatsRepository.saveAndFlush(any(StoreReviewStats.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        storeReviewStatsService.addRating(1L, 5);
+
+        verify(storeReviewStatsRepository).applyRating(1L, 5, 1L);
+    }
+
+    @Test
+    void 집계_행이_없는_가게는_조회할_때_기존_리뷰로_채워_생성한다() {
+        StoreReviewStats existing = new StoreReviewStats(1L);
+        StoreReviewStats created = new StoreReviewStats(2L);
+        given(storeReviewStatsRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(existing));
+        given(storeReviewStatsRepository.findByIdForUpdate(2L)).willReturn(Optional.of(created));
+        given(reviewRepository.countByRatingForStore(2L)).willReturn(List.of(
+                new ReviewRatingCount(2L, 3, 1L),
+                new ReviewRatingCount(2L, 5, 1L)
+        ));
+
+        Map<Long, StoreReviewStats> statsMap = storeReviewStatsService.findAllByStoreIds(List.of(1L, 2L));
+
+        assertEquals(2, statsMap.size());
+        assertEquals(2L, statsMap.get(2L).getReviewCount());
+        assertEquals(4.0, statsMap.get(2L).getAverageRating());
+        verify(storeReviewStatsRepository, times(1)).saveAndFlush(any(StoreReviewStats.class));
+    }
+
+    @Test
+    void 범위를_벗어난_별점은_집계에_반영하지_않는다() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> storeReviewStatsService.addRating(1L, 7));
+
+        assertEquals(ErrorCode.INVALID_REVIEW_RATING, exception.getErrorCode());
+        verifyNoInteractions(storeReviewStatsRepository);
+    }
+
+    @Test
+    void 가게마다_집계_행을_잠그고_리뷰_테이블에서_다시_센다() {
+        StoreReviewStats store1Stats = new StoreReviewStats(1L);
+        StoreReviewStats store2Stats = new StoreReviewStats(2L);
+        store2Stats.addRating(4, 3L); // 리뷰가 모두 삭제된 뒤 남은 집계
+        given(storeRepository.findAllIds()).willReturn(List.of(1L, 2L));
+        given(storeReviewStatsRepository.existsById(anyLong())).willReturn(true);
+        given(storeReviewStatsRepository.findByIdForUpdate(1L)).willReturn(Optional.of(store1Stats));
+        given(storeReviewStatsRepository.findByIdForUpdate(2L)).willReturn(Optional.of(store2Stats));
+        given(reviewRepository.countByRatingForStore(1L)).willReturn(List.of(
+                new ReviewRatingCount(1L, 5, 2L),
+                new ReviewRatingCount(1L, 1, 1L)
+        ));
+        given(reviewRepository.countByRatingForStore(2L)).willReturn(List.of());
+
+        int rebuiltStores = storeReviewStatsService.rebuild();
+
+        assertEquals(2, rebuiltStores);
+        assertEquals(3L, store1Stats.getReviewCount());
+        assertEquals(11L, store1Stats.getRatingSum());
+        assertEquals(2L, store1Stats.getFiveStarCount());
+        assertEquals(1L, store1Stats.getOneStarCount());
+        assertEquals(0L, store2Stats.getReviewCount());
+        assertEquals(0L, store2Stats.getFourStarCount());
+        verify(storeReviewStatsRepository, never()).deleteAllInBatch();
+        verify(transactionManager, times(2)).commit(any());
+    }
+}
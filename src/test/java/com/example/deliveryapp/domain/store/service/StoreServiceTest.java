@@ -3,8 +3,8 @@ package com.example.deliveryapp.domain.store.service;
 import com.example.deliveryapp.domain.common.dto.AuthUser;
 import com.example.deliveryapp.domain.common.exception.CustomException;
 import com.example.deliveryapp.domain.common.exception.ErrorCode;
-import com.example.deliveryapp.domain.review.repository.ReviewRepository;
-import com.example.deliveryapp.domain.store.dto.ReviewStatistics;
+import com.example.deliveryapp.domain.order.repository.OrderRepository;
+import com.example.deliveryapp.domain.store.cache.StoreOwnershipCache;
 import com.example.deliveryapp.domain.store.dto.request.StoreSaveRequest;
 import com.example.deliveryapp.domain.store.dto.request.StoreUpdateRequest;
 import com.example.deliveryapp.domain.store.dto.response.StorePageResponse;
@@ -12,6 +12,7 @@ import com.example.deliveryapp.domain.store.dto.response.StoreSaveResponse;
 import com.example.deliveryapp.domain.store.entity.Store;
 import com.example.deliveryapp.domain.store.enums.StoreStatus;
 import com.example.deliveryapp.domain.store.repository.StoreRepository;
+import com.example.deliveryapp.domain.user.cache.UserRoleCache;
 import com.example.deliveryapp.domain.user.entity.User;
 import com.example.deliveryapp.domain.user.enums.UserRole;
 import com.example.deliveryapp.domain.user.repository.UserRepository;
@@ -29,6 +30,7 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,7 +43,7 @@ import static org.mockito.Mockito.*;
 class StoreServiceTest {
 
     @Mock
-    private ReviewRepository reviewRepository;
+    private StoreReviewStatsService storeReviewStatsService;
 
     @Mock
     private StoreRepository storeRepository;
@@ -49,6 +51,15 @@ class StoreServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserRoleCache userRoleCache;
+
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
+    @Mock
+    private OrderRepository orderRepository;
+
     @InjectMocks
     private StoreService storeService;
 
@@ -74,7 +85,8 @@ class StoreServiceTest {
 
         Store store = new Store(request.getName(), openTime, closeTime, request.getMinimumOrderPrice(), status, user);
 
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(userRoleCache.getActiveRole(anyLong())).willReturn(UserRole.OWNER);
+        given(userRepository.getReferenceById(anyLong())).willReturn(user);
         given(storeRepository.save(any(Store.class))).willReturn(store);
 
         // when
@@ -97,7 +109,7 @@ class StoreServiceTest {
                 10000L,
                 "OPEN"
         );
-        given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(userRoleCache.getActiveRole(anyLong())).willThrow(new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // when
         CustomException exception = assertThrows(CustomException.class, () -> {
@@ -161,7 +173,7 @@ class StoreServiceTest {
 
         Store store = new Store("가게1", LocalTime.of(10, 0), LocalTime.of(20, 0), 100L, StoreStatus.OPEN, user);
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
-        given(userRepository.findById(otherUserId)).willReturn(Optional.of(otherUser));
+        given(userRoleCache.getActiveRole(otherUserId)).willReturn(otherUser.getRole());
 
         // when
         CustomException exception = assertThrows(CustomException.class, () -> storeService.update(storeId, otherUserId, request));
@@ -186,7 +198,7 @@ class StoreServiceTest {
 
         Store store = new Store("가게1", LocalTime.of(10, 0), LocalTime.of(20, 0), 100L, StoreStatus.OPEN, user);
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRoleCache.getActiveRole(userId)).willReturn(UserRole.OWNER);
 
         // when
         CustomException exception = assertThrows(CustomException.class, () -> storeService.update(storeId, userId, request));
@@ -211,14 +223,15 @@ class StoreServiceTest {
 
         Store store = new Store("가게1", LocalTime.of(10, 0), LocalTime.of(20, 0), 100L, StoreStatus.OPEN, user);
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRoleCache.getActiveRole(userId)).willReturn(UserRole.OWNER);
 
         // when
         storeService.update(storeId, userId, request);
 
         // then
         verify(storeRepository).findById(storeId);
-        verify(userRepository).findById(userId);
+        verify(userRoleCache).getActiveRole(userId);
+        verifyNoInteractions(userRepository);
 
         assertEquals(StoreStatus.CLOSED_BY_TIME, store.getStatus());
     }
@@ -259,6 +272,31 @@ class StoreServiceTest {
         assertEquals(ErrorCode.INVALID_USER_DELETE_STORE, exception.getErrorCode());
     }
 
+    @Test
+    void 가게_삭제_성공_시_소유권_캐시를_무효화한다() {
+        // given
+        long storeId = 1L;
+        long userId = 1L;
+        User user = User.builder()
+                .email("email")
+                .password("password")
+                .name("name")
+                .role(UserRole.OWNER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        Store store = new Store("가게1", LocalTime.of(10, 0), LocalTime.of(20, 0), 10000L, StoreStatus.OPEN, user);
+        given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
+        given(orderRepository.existsByStoreId(storeId)).willReturn(false);
+
+        // when
+        storeService.delete(storeId, userId);
+
+        // then
+        assertEquals(StoreStatus.PERMANENTLY_CLOSED, store.getStatus());
+        assertNotNull(store.getDeletedAt());
+        verify(storeOwnershipCache).evictStore(storeId);
+    }
+
     @Test
     void 가게_페이지를_정상_조회한다() {
         // given
@@ -285,10 +323,7 @@ class StoreServiceTest {
         Page<Store> storesPage = new PageImpl<>(stores, pageable, stores.size());
         given(storeRepository.findAll(pageable)).willReturn(storesPage);
 
-        List<ReviewStatistics> reviewStatisticsList = new ArrayList<>();
-        reviewStatisticsList.add(new ReviewStatistics(store.getId(), 0L, 0.0));
-
-        given(reviewRepository.countAndAverageRatingByStoreIds(anyList())).willReturn(reviewStatisticsList);
+        given(storeReviewStatsService.findAllByStoreIds(anyList())).willReturn(Map.of());
 
         // when
         Page<StorePageResponse> result = storeService.findAllPage(pageable);
@@ -297,5 +332,7 @@ class StoreServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         assertEquals("가게1", result.getContent().get(0).getName());
+        assertEquals(0L, result.getContent().get(0).getReviewCount());
+        assertEquals(0.0, result.getContent().get(0).getAverageRating());
     }
 }
\ No newline at end of file
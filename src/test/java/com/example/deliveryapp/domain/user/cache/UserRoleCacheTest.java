@@ -0,0 +1,69 @@
+package com.example.deliveryapp.domain.user.cache;
+
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
+import com.example.deliveryapp.domain.user.enums.UserRole;
+import com.example.deliveryapp.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserRoleCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserRoleCache userRoleCache;
+
+    @BeforeEach
+    void setUp() {
+        userRoleCache = new UserRoleCache(userRepository, new SimpleMeterRegistry(), 100L, 600L);
+    }
+
+    @Test
+    void 같은_사용자는_한_번만_조회한다() {
+        given(userRepository.findActiveRoleById(1L)).willReturn(Optional.of(UserRole.USER));
+
+        assertEquals(UserRole.USER, userRoleCache.getActiveRole(1L));
+        assertEquals(UserRole.USER, userRoleCache.getActiveRole(1L));
+
+        verify(userRepository, times(1)).findActiveRoleById(1L);
+        assertEquals(1L, userRoleCache.stats().hitCount());
+    }
+
+    @Test
+    void 없거나_탈퇴한_사용자는_캐시하지_않고_예외가_발생한다() {
+        given(userRepository.findActiveRoleById(1L)).willReturn(Optional.empty());
+
+        CustomException exception = assertThrows(CustomException.class, () -> userRoleCache.getActiveRole(1L));
+        assertThrows(CustomException.class, () -> userRoleCache.getActiveRole(1L));
+
+        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        verify(userRepository, times(2)).findActiveRoleById(1L);
+    }
+
+    @Test
+    void 탈퇴로_무효화되면_다시_조회한다() {
+        given(userRepository.findActiveRoleById(1L))
+                .willReturn(Optional.of(UserRole.OWNER))
+                .willReturn(Optional.empty());
+
+        userRoleCache.getActiveRole(1L);
+        userRoleCache.evict(1L);
+
+        assertThrows(CustomException.class, () -> userRoleCache.getActiveRole(1L));
+        verify(userRepository, times(2)).findActiveRoleById(1L);
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.deliveryapp.domain.user.controller;
 
+import com.example.deliveryapp.config.JwtFilter;
+import com.example.deliveryapp.domain.common.dto.AuthUser;
+import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.common.exception.ErrorCode;
 import com.example.deliveryapp.domain.user.dto.request.SignInRequest;
 import com.example.deliveryapp.domain.user.dto.request.SignUpRequest;
 import com.example.deliveryapp.domain.user.dto.request.UserDeleteRequest;
@@ -23,6 +27,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -68,6 +73,22 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.bearerToken").value("bearerToken"));
     }
 
+    @Test
+    void 로그인_요청이_몰리면_503과_Retry_After_반환() throws Exception {
+        // given
+        SignInRequest signInRequest = new SignInRequest("em@em.com", "Password1!");
+        given(userService.signIn(any(SignInRequest.class)))
+                .willThrow(new CustomException(ErrorCode.PASSWORD_HASH_BUSY));
+
+        // when&then
+        mockMvc.perform(post("/users/signin")
+                        .content(objectMapper.writeValueAsString(signInRequest))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.code").value("USER009"));
+    }
+
     @Test
     void 사용자_조회() throws Exception {
         //given
@@ -98,10 +119,7 @@ public class UserControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(userDeleteRequest))
                         .with(request -> {
-                            request.setAttribute("userId", userId);
-                            request.setAttribute("email", "ema@ema.com");
-                            request.setAttribute("name", "name");
-                            request.setAttribute("userRole", "USER");
+                            request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(userId, "ema@ema.com", "name", UserRole.USER));
                             return request;
                         }))
                 .andExpect(status().isOk());
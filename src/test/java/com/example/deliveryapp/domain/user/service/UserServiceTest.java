@@ -2,7 +2,9 @@ package com.example.deliveryapp.domain.user.service;
 
 import com.example.deliveryapp.config.JwtUtil;
 import com.example.deliveryapp.config.PasswordEncoder;
+import com.example.deliveryapp.config.PasswordHashExecutor;
 import com.example.deliveryapp.domain.common.exception.CustomException;
+import com.example.deliveryapp.domain.user.cache.UserRoleCache;
 import com.example.deliveryapp.domain.user.dto.request.SignInRequest;
 import com.example.deliveryapp.domain.user.dto.request.SignUpRequest;
 import com.example.deliveryapp.domain.user.dto.request.UserDeleteRequest;
@@ -12,11 +14,13 @@ import com.example.deliveryapp.domain.user.dto.response.UserResponse;
 import com.example.deliveryapp.domain.user.entity.User;
 import com.example.deliveryapp.domain.user.enums.UserRole;
 import com.example.deliveryapp.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -26,6 +30,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -35,12 +40,18 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(new SimpleMeterRegistry(), 1, 4, 1000);
+
     @Mock
     private JwtUtil jwtUtil;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserRoleCache userRoleCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -146,6 +157,26 @@ public class UserServiceTest {
 
             assertNotNull(signInResponse);
             assertEquals("BearerToken", signInResponse.getBearerToken());
+            verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+        }
+
+        @Test
+        void 로그인_성공시_낮은_cost_해시는_다시_해시() {
+            long userId = 1L;
+            User user = new User("email@email.com", "oldHash", "name", UserRole.OWNER);
+            SignInRequest signInRequest = new SignInRequest("email@email.com", "password");
+            ReflectionTestUtils.setField(user, "id", userId);
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches("password", "oldHash")).willReturn(true);
+            given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+            given(passwordEncoder.encode("password")).willReturn("newHash");
+            given(jwtUtil.createToken(anyLong(), anyString(), anyString(), any(UserRole.class))).willReturn("BearerToken");
+
+            SignInResponse signInResponse = userService.signIn(signInRequest);
+
+            assertEquals("BearerToken", signInResponse.getBearerToken());
+            verify(userRepository, times(1)).updatePassword(userId, "oldHash", "newHash");
         }
     }
 
@@ -192,6 +223,7 @@ public class UserServiceTest {
             given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
 
             assertThrows(CustomException.class, () -> userService.deleteUser(userId, userDeleteRequest), "비밀번호가 올바르지 않습니다.");
+            verify(userRoleCache, never()).evict(anyLong());
         }
 
         @Test
@@ -210,6 +242,7 @@ public class UserServiceTest {
 
             assertNotNull(user.getDeletedAt());
             verify(userRepository, times(1)).save(any(User.class));
+            verify(userRoleCache, times(1)).evict(userId);
         }
     }
 }
@@ -0,0 +1,56 @@
+package com.example.deliveryapp.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hibernate 가 실행하는 SQL 수를 세는 테스트용 StatementInspector
+// spring.jpa.properties.hibernate.session_factory.statement_inspector 에 클래스 이름으로 등록해서 사용
+public class QueryCounter implements StatementInspector {
+
+    private static final AtomicLong statementCount = new AtomicLong();
+    private static final AtomicLong selectCount = new AtomicLong();
+    private static final AtomicLong insertCount = new AtomicLong();
+    private static final AtomicLong sequenceCount = new AtomicLong();
+
+    @Override
+    public String inspect(String sql) {
+        statementCount.incrementAndGet();
+        String statement = sql.stripLeading();
+        if (isSequenceCall(statement)) {
+            sequenceCount.incrementAndGet(); // id 할당용 시퀀스 호출은 조회 쿼리로 세지 않음
+        } else if (statement.regionMatches(true, 0, "select", 0, 6)) {
+            selectCount.incrementAndGet();
+        } else if (statement.regionMatches(true, 0, "insert", 0, 6)) {
+            insertCount.incrementAndGet(); // JDBC 배치로 묶이면 배치 하나당 한 번만 준비됨
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        statementCount.set(0);
+        selectCount.set(0);
+        insertCount.set(0);
+        sequenceCount.set(0);
+    }
+
+    public static long getStatementCount() {
+        return statementCount.get();
+    }
+
+    public static long getSelectCount() {
+        return selectCount.get();
+    }
+
+    public static long getInsertCount() {
+        return insertCount.get();
+    }
+
+    public static long getSequenceCount() {
+        return sequenceCount.get();
+    }
+
+    private static boolean isSequenceCall(String statement) {
+        return statement.toLowerCase().contains("next value for");
+    }
+}